@@ -26,6 +26,10 @@ public class Main extends Application {
         primaryStage.setScene(scene);
         primaryStage.setResizable(true);
         primaryStage.show();
+
+        if (StartupTimer.ENABLED) {
+            StartupTimer.measure(primaryStage);
+        }
     }
 
     /**
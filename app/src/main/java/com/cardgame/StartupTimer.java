@@ -0,0 +1,71 @@
+package com.cardgame;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Startup measurement mode, switched on with {@code -Dcardgame.startup=measure}.
+ * <p>
+ * Reports the time from JVM start to the main menu's first frame, then waits a moment as a
+ * player would, clicks Start Game and reports the time until the game screen's first frame,
+ * and exits. Every run does the same, so it also serves as the training run for the AppCDS
+ * archive. A frame counts from the end of the layout pass of the first pulse that shows the scene.
+ */
+final class StartupTimer {
+    /**
+     * Whether the application was started in measurement mode.
+     */
+    static final boolean ENABLED = "measure".equals(System.getProperty("cardgame.startup"));
+
+    // Time a player spends on the menu before starting, during which the game screen is preloaded
+    private static final Duration MENU_TIME = Duration.seconds(1);
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Measures the start of the application whose main menu was just shown.
+     * @param stage The primary stage
+     */
+    static void measure(Stage stage) {
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        onFirstFrame(stage.getScene(), () -> {
+            System.out.printf("Time to first frame: %d ms%n", System.currentTimeMillis() - jvmStart);
+
+            PauseTransition menuTime = new PauseTransition(MENU_TIME);
+            menuTime.setOnFinished(event -> {
+                long click = System.currentTimeMillis();
+                stage.sceneProperty().addListener((observable, oldScene, gameScene) -> onFirstFrame(gameScene, () -> {
+                    System.out.printf("Time to game screen: %d ms after clicking Start Game%n",
+                            System.currentTimeMillis() - click);
+                    Platform.exit();
+                }));
+                ((Button) stage.getScene().lookup("#startGameButton")).fire();
+            });
+            menuTime.play();
+        });
+    }
+
+    /**
+     * Runs an action once, after the next pulse that lays out the scene.
+     */
+    private static void onFirstFrame(Scene scene, Runnable action) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> Platform.runLater(() -> {
+            // The pulse may have been followed by another before this ran
+            if (listener[0] != null) {
+                scene.removePostLayoutPulseListener(listener[0]);
+                listener[0] = null;
+                action.run();
+            }
+        });
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+}
@@ -0,0 +1,1047 @@
+package com.cardgame.controller;
+
+import com.cardgame.engine.CombatLogFormatter;
+import com.cardgame.engine.GameSnapshot;
+import com.cardgame.engine.ai.ComputerPlayer;
+import com.cardgame.engine.ai.ExpectimaxPlayer;
+import com.cardgame.engine.ai.MctsPlayer;
+import com.cardgame.engine.ai.Move;
+import com.cardgame.engine.journal.GameRecorder;
+import com.cardgame.engine.journal.JournalReader;
+import com.cardgame.engine.journal.JournalWriter;
+import com.cardgame.engine.journal.ReplayTimeline;
+import com.cardgame.log.GameLog;
+import com.cardgame.metrics.Metrics;
+import com.cardgame.metrics.UiRebuildEvent;
+import com.cardgame.model.Card;
+import com.cardgame.model.Game;
+import com.cardgame.model.Player;
+import com.cardgame.view.CardView;
+import com.cardgame.view.CardViewPool;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.collections.ListChangeListener;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Controller for the game screen.
+ */
+public class GameScreenController {
+    private boolean debugMode = true; // Set to false for production
+
+    // Number of log entries kept in memory; start with -Dcardgame.log.spill=true to keep older ones on disk
+    private static final int LOG_CAPACITY = 200;
+    private static final int LOG_PAGE_SIZE = 50;
+
+    // Idle card views kept for reuse; enough for both hands and the visible deck window
+    private static final int CARD_VIEW_POOL_SIZE = 16;
+
+    // How long the computer opponent may think about each move; start with -Dcardgame.ai=mcts for tree search on all cores
+    private static final Duration COMPUTER_MOVE_BUDGET = Duration.ofMillis(500);
+
+    // Single save slot, shared with the main menu's load button
+    static final Path SAVE_FILE = Path.of(System.getProperty("user.home"), ".cardgame", "savegame.bin");
+
+    // Journal that every new match is appended to when the player leaves it, for watching replays
+    static final Path REPLAY_FILE = Path.of(System.getProperty("user.home"), ".cardgame", "replays.bin");
+
+    @FXML
+    private Label gameStatusLabel;
+
+    @FXML
+    private Button activateSwitchModeButton;
+
+    @FXML
+    private Button endTurnButton;
+
+    @FXML
+    private Button rematchButton;
+
+    @FXML
+    private Button saveGameButton;
+
+    @FXML
+    private Button mainMenuButton;
+
+    @FXML
+    private Label player1NameLabel;
+
+    @FXML
+    private Label player2NameLabel;
+
+    @FXML
+    private HBox player1CardsContainer;
+
+    @FXML
+    private HBox player2CardsContainer;
+
+    @FXML
+    private StackPane deckContainer;
+
+    @FXML
+    private Label cardsRemainingLabel;
+
+    @FXML
+    private HBox availableCardsContainer;
+
+    @FXML
+    private Button switchCardsButton;
+
+    @FXML
+    private ListView<String> gameLogListView;
+
+    @FXML
+    private HBox replayControls;
+
+    @FXML
+    private Button previousTurnButton;
+
+    @FXML
+    private Slider replaySlider;
+
+    @FXML
+    private Button nextTurnButton;
+
+    @FXML
+    private Label replayTurnLabel;
+
+    private Game game;
+    private GameLog gameLog;
+    private CardView selectedPlayerCard;
+    private CardView selectedOpponentCard;
+    private final List<CardView> selectedPlayerCards = new ArrayList<>();
+    private final List<CardView> selectedDeckCards = new ArrayList<>();
+    private final CardViewPool cardViewPool = new CardViewPool(CARD_VIEW_POOL_SIZE);
+    private boolean switchModeActive = false;
+    private boolean hasSwitchedThisTurn = false;
+    private ComputerPlayer computerPlayer; // Plays player 2, or null when both players are human
+    private GameRecorder recorder; // Records a new match for replays, or null for loaded games and replays
+    private JournalReader replayReader;
+    private ReplayTimeline replay; // The replay being watched, or null when playing
+    private int replayTurn = -1;
+    private Scene menuScene;
+
+    /**
+     * Logs debug information if debug mode is enabled.
+     */
+    private void debugLog(String message) {
+        if (debugMode) {
+            appendToGameLog("[DEBUG] " + message);
+        }
+    }
+
+    /**
+     * Wires up the parts of the screen that outlive a single game, once after loading.
+     */
+    @FXML
+    private void initialize() {
+        gameLogListView.setCellFactory(list -> new ListCell<>() {
+            {
+                setWrapText(true);
+                prefWidthProperty().bind(list.widthProperty().subtract(20));
+            }
+
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : item);
+            }
+        });
+
+        // Page entries in from disk when the user scrolls past either end of the buffer
+        gameLogListView.addEventFilter(ScrollEvent.SCROLL, event -> {
+            if (event.getDeltaY() > 0 && isLogRowVisible(0)) {
+                int loaded = gameLog.pageBack(LOG_PAGE_SIZE);
+                if (loaded > 0) {
+                    gameLogListView.scrollTo(loaded);
+                }
+            } else if (event.getDeltaY() < 0 && isLogRowVisible(gameLog.size() - 1)) {
+                int loaded = gameLog.pageForward(LOG_PAGE_SIZE);
+                if (loaded > 0) {
+                    gameLogListView.scrollTo(gameLog.size() - loaded - 1);
+                }
+            }
+        });
+
+        replaySlider.valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (replay != null) {
+                showReplayTurn((int) Math.round(newValue.doubleValue()));
+            }
+        });
+    }
+
+    /**
+     * Sets the scene that Main Menu returns to. The screen itself is kept and reused for the next game.
+     * @param menuScene The main menu's scene
+     */
+    public void setMenuScene(Scene menuScene) {
+        this.menuScene = menuScene;
+    }
+
+    /**
+     * Initializes the game with the specified player names.
+     */
+    public void initializeGame(String player1Name, String player2Name) {
+        initializeGame(player1Name, player2Name, false);
+    }
+
+    /**
+     * Initializes the game with the specified player names, optionally letting the computer play player 2.
+     */
+    public void initializeGame(String player1Name, String player2Name, boolean computerOpponent) {
+        // Create a new game
+        setupGame(new Game(player1Name, player2Name), computerOpponent);
+        recorder = new GameRecorder();
+        recorder.start(game.getState());
+        game.setRecorder(recorder);
+
+        // Add initial log entry
+        appendToGameLog("Game started! " + player1Name + " vs " + player2Name);
+        appendToGameLog(player1Name + "'s turn");
+        appendToGameLog("To switch cards: First click on your cards to select them, then click the 'Switch Selected Cards' button");
+        logDebugState();
+    }
+
+    /**
+     * Continues a saved game, optionally letting the computer play player 2.
+     */
+    public void loadGame(com.cardgame.engine.Game state, boolean computerOpponent) {
+        setupGame(new Game(state), computerOpponent);
+        hasSwitchedThisTurn = state.getCurrentPlayer().hasSwitchedThisTurn();
+
+        appendToGameLog("Saved game loaded! " + game.getPlayer1().getName() + " vs " + game.getPlayer2().getName());
+        appendToGameLog(game.getGameStatus());
+        logDebugState();
+
+        if (isComputerTurn()) {
+            playComputerMove();
+        }
+    }
+
+    /**
+     * Shows a recorded game read-only, with controls to move to any of its turns.
+     * @param reader The open journal, which the screen closes when it is left
+     * @param timeline Timeline of the game to watch, built from the reader
+     */
+    public void showReplay(JournalReader reader, ReplayTimeline timeline) {
+        endGame();
+        resetBoard(false);
+        setupGameLog();
+
+        // Move the slider while no replay is set, so it does not seek
+        replaySlider.setValue(0);
+        replaySlider.setMax(timeline.getTurns());
+        replayReader = reader;
+        replay = timeline;
+
+        appendToGameLog("Watching a replay of " + timeline.getTurns() + " turns");
+        showReplayTurn(0);
+    }
+
+    /**
+     * Shows the replayed game after some turns, with the log of the turn that led there.
+     */
+    private void showReplayTurn(int turn) {
+        // Dragging the slider reports many values between two turns
+        if (turn == replayTurn) {
+            return;
+        }
+
+        CombatLogFormatter turnLog = new CombatLogFormatter();
+        com.cardgame.engine.Game state;
+        try {
+            state = replay.seek(turn, turnLog);
+        } catch (IOException | IllegalStateException e) {
+            showAlert("Error", "Failed to replay turn " + turn + ": " + e.getMessage());
+            return;
+        }
+        replayTurn = turn;
+
+        game = new Game(state);
+        gameStatusLabel.textProperty().bind(game.gameStatusProperty());
+        player1NameLabel.setText(game.getPlayer1().getName());
+        player2NameLabel.setText(game.getPlayer2().getName());
+        setupPlayerCards();
+        setupDeckDisplay();
+
+        replayTurnLabel.setText("Turn " + turn + " of " + replay.getTurns());
+        previousTurnButton.setDisable(turn == 0);
+        nextTurnButton.setDisable(turn == replay.getTurns());
+
+        String events = turnLog.take();
+        appendToGameLog(events.isBlank() ? "Turn " + turn : "Turn " + turn + ": " + events);
+    }
+
+    /**
+     * Steps the replay back one turn.
+     */
+    @FXML
+    private void previousTurn(ActionEvent event) {
+        replaySlider.setValue(replayTurn - 1);
+    }
+
+    /**
+     * Steps the replay forward one turn.
+     */
+    @FXML
+    private void nextTurn(ActionEvent event) {
+        replaySlider.setValue(replayTurn + 1);
+    }
+
+    /**
+     * Binds the screen to a game.
+     */
+    private void setupGame(Game game, boolean computerOpponent) {
+        endGame();
+        resetBoard(true);
+        if (computerOpponent) {
+            computerPlayer = "mcts".equals(System.getProperty("cardgame.ai"))
+                    ? new MctsPlayer(Runtime.getRuntime().availableProcessors(), COMPUTER_MOVE_BUDGET)
+                    : new ExpectimaxPlayer(COMPUTER_MOVE_BUDGET);
+        }
+        this.game = game;
+
+        // Set up UI bindings
+        gameStatusLabel.textProperty().bind(game.gameStatusProperty());
+        player1NameLabel.setText(game.getPlayer1().getName());
+        player2NameLabel.setText(game.getPlayer2().getName());
+
+        // Set up the game log
+        setupGameLog();
+
+        // Set up card displays
+        setupPlayerCards();
+        setupDeckDisplay();
+    }
+
+    /**
+     * Ends what the screen was showing, so it can be bound to another game: stops the computer
+     * player, appends a recorded match to the replay journal and closes a watched replay.
+     */
+    private void endGame() {
+        if (computerPlayer != null) {
+            computerPlayer.close();
+            computerPlayer = null;
+        }
+        if (recorder != null) {
+            saveReplay();
+        }
+        if (replayReader != null) {
+            try {
+                replayReader.close();
+            } catch (IOException e) {
+                // Only reading; nothing is lost
+            }
+            replayReader = null;
+        }
+        replay = null;
+        replayTurn = -1;
+        if (gameLog != null) {
+            gameLog.close();
+            gameLog = null;
+        }
+    }
+
+    /**
+     * Clears the selections and turn state of the previous game and shows the controls for
+     * playing or for watching a replay.
+     */
+    private void resetBoard(boolean playing) {
+        for (CardView cardView : selectedPlayerCards) {
+            cardView.setSelected(false);
+        }
+        for (CardView cardView : selectedDeckCards) {
+            cardView.setSelected(false);
+        }
+        if (selectedPlayerCard != null) {
+            selectedPlayerCard.setSelected(false);
+        }
+        selectedPlayerCard = null;
+        selectedOpponentCard = null;
+        selectedPlayerCards.clear();
+        selectedDeckCards.clear();
+        switchModeActive = false;
+        hasSwitchedThisTurn = false;
+        switchCardsButton.setDisable(true);
+        endTurnButton.setDisable(false);
+
+        for (Node control : List.of(activateSwitchModeButton, endTurnButton, rematchButton, saveGameButton, switchCardsButton)) {
+            control.setVisible(playing);
+            control.setManaged(playing);
+        }
+        replayControls.setVisible(!playing);
+        replayControls.setManaged(!playing);
+    }
+
+    /**
+     * Logs the card counts of a newly set up game if debug mode is enabled.
+     */
+    private void logDebugState() {
+        if (debugMode) {
+            debugLog("Player 1 has " + game.getPlayer1().getCards().size() + " cards");
+            debugLog("Player 2 has " + game.getPlayer2().getCards().size() + " cards");
+            debugLog("Deck has " + game.getDeck().getRemainingCards() + " cards remaining");
+            debugLog("Game initialized in debug mode - extra logging enabled");
+        }
+    }
+
+    /**
+     * Sets up the game log list, which only renders the visible rows.
+     */
+    private void setupGameLog() {
+        gameLog = new GameLog(LOG_CAPACITY, Boolean.getBoolean("cardgame.log.spill"));
+        gameLogListView.setItems(gameLog);
+    }
+
+    /**
+     * Checks if a row of the game log is currently on screen.
+     */
+    private boolean isLogRowVisible(int index) {
+        if (!(gameLogListView.lookup(".virtual-flow") instanceof VirtualFlow<?> flow)) {
+            return false;
+        }
+
+        IndexedCell<?> firstCell = flow.getFirstVisibleCell();
+        IndexedCell<?> lastCell = flow.getLastVisibleCell();
+        return firstCell != null && lastCell != null
+                && firstCell.getIndex() <= index && index <= lastCell.getIndex();
+    }
+
+    /**
+     * Sets up the player card displays.
+     */
+    private void setupPlayerCards() {
+        long start = Metrics.start();
+        UiRebuildEvent event = new UiRebuildEvent();
+        event.begin();
+        int viewsBefore = player1CardsContainer.getChildren().size() + player2CardsContainer.getChildren().size();
+
+        bindPlayerCards(player1CardsContainer, game.getPlayer1());
+        bindPlayerCards(player2CardsContainer, game.getPlayer2());
+
+        Metrics.UI_REFRESH.stop(start);
+        if (event.shouldCommit()) {
+            int viewsAfter = player1CardsContainer.getChildren().size() + player2CardsContainer.getChildren().size();
+            commitRebuild(event, "setupPlayerCards", viewsAfter, Math.max(viewsAfter - viewsBefore, 0),
+                    Math.max(viewsBefore - viewsAfter, 0));
+        }
+    }
+
+    /**
+     * Fills in and commits the flight recorder event of a card view rebuild.
+     */
+    private static void commitRebuild(UiRebuildEvent event, String method, int viewsBound, int nodesAdded, int nodesRemoved) {
+        event.method = method;
+        event.viewsBound = viewsBound;
+        event.nodesAdded = nodesAdded;
+        event.nodesRemoved = nodesRemoved;
+        event.commit();
+    }
+
+    /**
+     * Shows a player's hand, rebinding the views already on screen and only adding or
+     * releasing views when the hand size changes.
+     */
+    private void bindPlayerCards(HBox container, Player player) {
+        List<Node> views = container.getChildren();
+        List<Card> cards = player.getCards();
+
+        for (int i = 0; i < cards.size(); i++) {
+            if (i < views.size() && views.get(i) instanceof CardView cardView) {
+                cardView.bind(cards.get(i), i);
+            } else {
+                CardView cardView = cardViewPool.acquire(cards.get(i), i);
+
+                // Look up the card, index and player on click, since the view is rebound to later cards and games
+                cardView.setOnMouseClicked(event -> {
+                    if (!cardView.getCard().isDefeated()) {
+                        Player owner = container == player1CardsContainer ? game.getPlayer1() : game.getPlayer2();
+                        debugLog("Clicked " + owner.getName() + " card at index " + cardView.getIndex());
+                        handlePlayerCardClick(cardView, cardView.getIndex());
+                    }
+                });
+
+                views.add(cardView);
+            }
+        }
+
+        if (views.size() > cards.size()) {
+            releaseCardViews(views.subList(cards.size(), views.size()));
+        }
+    }
+
+    /**
+     * Sets up the deck display and available cards.
+     */
+    private void setupDeckDisplay() {
+        // Clear existing content
+        deckContainer.getChildren().clear();
+
+        // Set up deck visualization
+        StackPane deckPane = new StackPane();
+        deckPane.getStyleClass().add("deck");
+        deckContainer.getChildren().add(deckPane);
+
+        // Set up available cards display
+        updateAvailableCards();
+
+        // Listen for changes in the deck and only rebuild the slots that changed
+        game.getDeck().getVisibleCards().addListener((ListChangeListener<Card>) change -> {
+            long start = Metrics.start();
+            UiRebuildEvent event = new UiRebuildEvent();
+            event.begin();
+            int added = 0;
+            int removed = 0;
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    removeAvailableCardViews(change.getFrom(), change.getRemovedSize());
+                    removed += change.getRemovedSize();
+                }
+                if (change.wasAdded()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        availableCardsContainer.getChildren().add(i, createAvailableCardView(change.getList().get(i), i));
+                    }
+                    added += change.getAddedSize();
+                }
+            }
+            updateCardsRemaining();
+            Metrics.UI_REFRESH.stop(start);
+            if (event.shouldCommit()) {
+                commitRebuild(event, "visibleCardsChanged", added, added, removed);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the whole available cards display.
+     */
+    private void updateAvailableCards() {
+        long start = Metrics.start();
+        UiRebuildEvent event = new UiRebuildEvent();
+        event.begin();
+        int removed = availableCardsContainer.getChildren().size();
+        releaseCardViews(availableCardsContainer.getChildren());
+
+        for (int i = 0; i < game.getDeck().getVisibleCards().size(); i++) {
+            Card card = game.getDeck().getVisibleCards().get(i);
+            availableCardsContainer.getChildren().add(createAvailableCardView(card, i));
+        }
+
+        updateCardsRemaining();
+        Metrics.UI_REFRESH.stop(start);
+        if (event.shouldCommit()) {
+            int added = availableCardsContainer.getChildren().size();
+            commitRebuild(event, "updateAvailableCards", added, added, removed);
+        }
+    }
+
+    /**
+     * Creates the view for one available deck card.
+     */
+    private CardView createAvailableCardView(Card card, int index) {
+        CardView cardView = cardViewPool.acquire(card, index);
+
+        // Add click handler for available cards
+        cardView.setOnMouseClicked(event -> {
+            debugLog("Clicked available card at index " + availableCardsContainer.getChildren().indexOf(cardView));
+            handleAvailableCardClick(cardView);
+        });
+
+        return cardView;
+    }
+
+    /**
+     * Removes a range of available card views, dropping them from the switch selection.
+     */
+    private void removeAvailableCardViews(int from, int count) {
+        List<Node> removed = availableCardsContainer.getChildren().subList(from, from + count);
+        selectedDeckCards.removeAll(removed);
+        releaseCardViews(removed);
+    }
+
+    /**
+     * Removes card views and hands them back to the pool, which stops them listening to their cards.
+     */
+    private void releaseCardViews(List<Node> nodes) {
+        List<Node> released = new ArrayList<>(nodes);
+        nodes.clear();
+        for (Node node : released) {
+            if (node instanceof CardView cardView) {
+                cardViewPool.release(cardView);
+            }
+        }
+    }
+
+    /**
+     * Updates the cards remaining label.
+     */
+    private void updateCardsRemaining() {
+        cardsRemainingLabel.setText("Cards: " + game.getDeck().getRemainingCards());
+    }
+
+    /**
+     * Handles a click on a player's card.
+     */
+    private void handlePlayerCardClick(CardView cardView, int cardIndex) {
+        if (isReadOnly()) {
+            return;
+        }
+
+        Player currentPlayer = game.getCurrentPlayer();
+        Player opponent = game.getOpponent();
+        Card clickedCard = cardView.getCard();
+
+        // Debug information
+        debugLog("Card clicked: " + clickedCard.getName() + " (index: " + cardIndex + ")");
+
+        // Check if the card belongs to the current player
+        boolean isCurrentPlayerCard = (currentPlayer == game.getPlayer1() && player1CardsContainer.getChildren().contains(cardView)) ||
+                (currentPlayer == game.getPlayer2() && player2CardsContainer.getChildren().contains(cardView));
+
+        // Check if the card belongs to the opponent
+        boolean isOpponentCard = (currentPlayer == game.getPlayer1() && player2CardsContainer.getChildren().contains(cardView)) ||
+                (currentPlayer == game.getPlayer2() && player1CardsContainer.getChildren().contains(cardView));
+
+        debugLog("Is current player's card: " + isCurrentPlayerCard);
+        debugLog("Is opponent's card: " + isOpponentCard);
+
+        // If the card belongs to the current player
+        if (isCurrentPlayerCard) {
+            // If player has already attacked this turn
+            if (currentPlayer.hasAttackedThisTurn()) {
+                appendToGameLog("You have already attacked this turn and cannot select cards.");
+                return;
+            }
+
+            // If we're in switch mode or cards are selected for switching
+            if (switchModeActive || !selectedPlayerCards.isEmpty()) {
+                togglePlayerCardForSwitch(cardView);
+            } else if (selectedPlayerCard == null) {
+                // Select this card for attack
+                selectedPlayerCard = cardView;
+                selectedPlayerCard.setSelected(true);
+                appendToGameLog("Selected " + cardView.getCard().getName() + " for attack. Now select an opponent's card.");
+            } else {
+                // Deselect previous card and select this one
+                selectedPlayerCard.setSelected(false);
+                selectedPlayerCard = cardView;
+                selectedPlayerCard.setSelected(true);
+                appendToGameLog("Selected " + cardView.getCard().getName() + " for attack. Now select an opponent's card.");
+            }
+        }
+        // If the card belongs to the opponent
+        else if (isOpponentCard) {
+            // If we have a selected player card, perform attack
+            if (selectedPlayerCard != null) {
+                selectedOpponentCard = cardView;
+
+                // Perform the attack
+                String attackResult = game.performAttack(selectedPlayerCard.getIndex(), cardIndex);
+                appendToGameLog(attackResult);
+
+                // Reset selections
+                selectedPlayerCard.setSelected(false);
+                selectedPlayerCard = null;
+                selectedOpponentCard = null;
+            } else {
+                appendToGameLog("Select one of your cards first to attack with.");
+            }
+        }
+    }
+
+    /**
+     * Handles a click on an available card.
+     */
+    private void handleAvailableCardClick(CardView cardView) {
+        if (isReadOnly()) {
+            return;
+        }
+
+        if (game.getCurrentPlayer().hasAttackedThisTurn() || hasSwitchedThisTurn) {
+            appendToGameLog("You cannot switch cards after attacking or having already switched this turn.");
+            return;
+        }
+
+        if (switchModeActive) {
+            toggleDeckCardForSwitch(cardView);
+        } else {
+            appendToGameLog("Click 'Switch Mode' button first to activate card switching.");
+        }
+    }
+
+    /**
+     * Toggles a deck card for switching.
+     */
+    private void toggleDeckCardForSwitch(CardView cardView) {
+        if (selectedDeckCards.contains(cardView)) {
+            // Deselect the card
+            selectedDeckCards.remove(cardView);
+            cardView.setSelected(false);
+            debugLog("Deselected deck card: " + cardView.getCard().getName());
+        } else {
+            // Select the card
+            selectedDeckCards.add(cardView);
+            cardView.setSelected(true);
+            debugLog("Selected deck card: " + cardView.getCard().getName());
+        }
+
+        // Update switch button status
+        updateSwitchButtonStatus();
+    }
+
+    /**
+     * Toggles a player card for switching with deck cards.
+     */
+    private void togglePlayerCardForSwitch(CardView cardView) {
+        if (selectedPlayerCards.contains(cardView)) {
+            // Deselect the card
+            selectedPlayerCards.remove(cardView);
+            cardView.setSelected(false);
+            debugLog("Deselected player card for switching: " + cardView.getCard().getName());
+        } else {
+            // Select the card
+            selectedPlayerCards.add(cardView);
+            cardView.setSelected(true);
+            debugLog("Selected player card for switching: " + cardView.getCard().getName());
+        }
+
+        // Update switch button status
+        updateSwitchButtonStatus();
+    }
+
+    /**
+     * Updates the switch button status.
+     */
+    private void updateSwitchButtonStatus() {
+        // Enable switch button only if same number of player and deck cards are selected
+        boolean canSwitch = !selectedPlayerCards.isEmpty() &&
+                (selectedPlayerCards.size() == selectedDeckCards.size());
+        switchCardsButton.setDisable(!canSwitch);
+
+        if (canSwitch) {
+            appendToGameLog("Ready to switch " + selectedPlayerCards.size() + " card(s). Click 'Switch Selected Cards' to confirm.");
+        }
+    }
+
+    /**
+     * Activates switch mode to select cards for switching.
+     */
+    @FXML
+    private void activateSwitchMode() {
+        if (isReadOnly()) {
+            return;
+        }
+
+        if (game.getCurrentPlayer().hasAttackedThisTurn()) {
+            appendToGameLog("You cannot switch cards after attacking.");
+            return;
+        }
+
+        if (hasSwitchedThisTurn) {
+            appendToGameLog("You can only switch cards once per turn.");
+            return;
+        }
+
+        switchModeActive = true;
+
+        // Clear any attack selection
+        if (selectedPlayerCard != null) {
+            selectedPlayerCard.setSelected(false);
+            selectedPlayerCard = null;
+        }
+
+        appendToGameLog("Switch mode activated. First select the cards from your hand you want to replace, " +
+                "then select an equal number of cards from the available deck cards. " +
+                "Finally, click 'Switch Selected Cards' to complete the exchange.");
+    }
+
+    /**
+     * Switches the selected cards with cards from the deck.
+     */
+    @FXML
+    private void switchCards(ActionEvent event) {
+        if (isReadOnly()) {
+            return;
+        }
+
+        if (selectedPlayerCards.isEmpty() || selectedDeckCards.isEmpty()) {
+            appendToGameLog("Please select equal numbers of your cards and deck cards to switch.");
+            return;
+        }
+
+        if (selectedPlayerCards.size() != selectedDeckCards.size()) {
+            appendToGameLog("Please select equal numbers of your cards and deck cards to switch.");
+            return;
+        }
+
+        if (hasSwitchedThisTurn) {
+            appendToGameLog("You have already switched cards this turn.");
+            return;
+        }
+
+        debugLog("Switch button clicked with " + selectedPlayerCards.size() + " player cards and " +
+                selectedDeckCards.size() + " deck cards selected");
+
+        // Create mappings of player card indices to deck card indices
+        List<Integer> playerCardIndices = new ArrayList<>();
+        List<Card> deckCardsToUse = new ArrayList<>();
+
+        for (CardView playerCardView : selectedPlayerCards) {
+            playerCardIndices.add(playerCardView.getIndex());
+        }
+
+        for (CardView deckCardView : selectedDeckCards) {
+            deckCardsToUse.add(deckCardView.getCard());
+        }
+
+        // Perform the switch with custom cards
+        String switchResult = game.switchCardsWithChosen(playerCardIndices, deckCardsToUse);
+        appendToGameLog(switchResult);
+
+        // Reset selections
+        for (CardView cardView : new ArrayList<>(selectedPlayerCards)) {
+            cardView.setSelected(false);
+        }
+        for (CardView cardView : new ArrayList<>(selectedDeckCards)) {
+            cardView.setSelected(false);
+        }
+
+        selectedPlayerCards.clear();
+        selectedDeckCards.clear();
+        switchCardsButton.setDisable(true);
+        switchModeActive = false;
+        hasSwitchedThisTurn = true;
+
+        // Update UI; the deck listener has already updated the available cards
+        setupPlayerCards(); // Rebuild player cards to ensure correct indices
+    }
+
+    /**
+     * Ends the current player's turn.
+     */
+    @FXML
+    private void endTurn(ActionEvent event) {
+        if (isReadOnly()) {
+            return;
+        }
+
+        finishTurn();
+    }
+
+    /**
+     * Clears the selections and hands the turn to the other player.
+     */
+    private void finishTurn() {
+        // Reset selections
+        if (selectedPlayerCard != null) {
+            selectedPlayerCard.setSelected(false);
+            selectedPlayerCard = null;
+        }
+
+        for (CardView cardView : new ArrayList<>(selectedPlayerCards)) {
+            cardView.setSelected(false);
+        }
+        for (CardView cardView : new ArrayList<>(selectedDeckCards)) {
+            cardView.setSelected(false);
+        }
+
+        selectedPlayerCards.clear();
+        selectedDeckCards.clear();
+        switchCardsButton.setDisable(true);
+        switchModeActive = false;
+
+        // End the turn
+        game.endTurn();
+
+        // Reset switch status for new turn
+        hasSwitchedThisTurn = false;
+
+        appendToGameLog(game.getCurrentPlayer().getName() + "'s turn");
+
+        if (isComputerTurn()) {
+            playComputerMove();
+        }
+    }
+
+    /**
+     * Checks if the board ignores input, which it does during the computer's turn and in replays.
+     */
+    private boolean isReadOnly() {
+        return replay != null || isComputerTurn();
+    }
+
+    /**
+     * Checks if the computer is playing the current turn.
+     */
+    private boolean isComputerTurn() {
+        return computerPlayer != null && game.getCurrentPlayer() == game.getPlayer2() && !game.isGameOver();
+    }
+
+    /**
+     * Lets the computer choose its next move on a background thread, so the screen stays
+     * responsive, and plays it on the application thread when the search is done.
+     */
+    private void playComputerMove() {
+        ComputerPlayer player = computerPlayer;
+        com.cardgame.engine.Game state = game.getState();
+        endTurnButton.setDisable(true);
+
+        Task<Move> search = new Task<>() {
+            @Override
+            protected Move call() {
+                return player.chooseMove(state);
+            }
+        };
+
+        search.setOnSucceeded(event -> {
+            // The player may have left for the main menu while the computer was thinking
+            if (computerPlayer == player) {
+                applyComputerMove(search.getValue());
+            }
+        });
+        search.setOnFailed(event ->
+                abandonComputerTurn(player, "The computer failed to choose a move: " + search.getException().getMessage()));
+        search.setOnCancelled(event ->
+                abandonComputerTurn(player, "The computer stopped choosing a move"));
+
+        Thread thread = new Thread(search, "computer-player");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Ends the computer's turn after its search did not produce a move. A search of a player that
+     * was closed for a rematch or the main menu fails as well, and must not touch the new game.
+     */
+    private void abandonComputerTurn(ComputerPlayer player, String message) {
+        if (computerPlayer != player) {
+            return;
+        }
+        appendToGameLog(message);
+        endTurnButton.setDisable(false);
+        finishTurn();
+    }
+
+    /**
+     * Plays one computer move and continues the computer's turn until it attacks or ends it.
+     */
+    private void applyComputerMove(Move move) {
+        if (move.getKind() == Move.Kind.END_TURN) {
+            endTurnButton.setDisable(false);
+            finishTurn();
+            return;
+        }
+
+        appendToGameLog(game.play(move));
+
+        if (move.getKind() == Move.Kind.SWITCH) {
+            hasSwitchedThisTurn = true;
+            setupPlayerCards(); // Rebuild player cards to ensure correct indices
+            playComputerMove();
+            return;
+        }
+
+        // Nothing is left to do after an attack
+        endTurnButton.setDisable(false);
+        if (!game.isGameOver()) {
+            finishTurn();
+        }
+    }
+
+    /**
+     * Saves the game to the save slot, replacing the previous save.
+     */
+    @FXML
+    private void saveGame(ActionEvent event) {
+        if (isReadOnly()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(SAVE_FILE.getParent());
+            Files.write(SAVE_FILE, GameSnapshot.encode(game.getState()));
+            appendToGameLog("Game saved");
+        } catch (IOException e) {
+            showAlert("Error", "Failed to save the game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the recorded match to the replay journal.
+     */
+    private void saveReplay() {
+        try {
+            Files.createDirectories(REPLAY_FILE.getParent());
+            try (JournalWriter writer = JournalWriter.open(REPLAY_FILE)) {
+                writer.append(recorder);
+            }
+        } catch (IOException e) {
+            showAlert("Error", "Failed to save the replay: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /**
+     * Starts a new game with the same players, reusing the screen.
+     */
+    @FXML
+    private void rematch(ActionEvent event) {
+        boolean computerOpponent = computerPlayer != null;
+        initializeGame(game.getPlayer1().getName(), game.getPlayer2().getName(), computerOpponent);
+    }
+
+    /**
+     * Returns to the main menu, keeping this screen for the next game.
+     */
+    @FXML
+    private void returnToMainMenu(ActionEvent event) {
+        endGame();
+
+        Stage stage = (Stage) mainMenuButton.getScene().getWindow();
+        stage.setScene(menuScene);
+        stage.setTitle("Rock-Paper-Scissors Card Battle");
+        stage.show();
+    }
+
+    /**
+     * Appends a message to the game log.
+     */
+    private void appendToGameLog(String message) {
+        gameLog.append(message.strip());
+
+        // Auto-scroll to bottom
+        Platform.runLater(() -> {
+            gameLogListView.scrollTo(gameLog.size() - 1);
+        });
+    }
+
+    /**
+     * Shows an alert dialog with the specified title and message.
+     */
+    private void showAlert(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
+
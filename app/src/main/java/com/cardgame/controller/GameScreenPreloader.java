@@ -0,0 +1,78 @@
+package com.cardgame.controller;
+
+import com.cardgame.Main;
+import javafx.fxml.FXMLLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Loads the game screen and its controller on a background thread while the main menu is
+ * shown, so starting a game only has to put an already built scene graph on the stage.
+ * <p>
+ * JavaFX allows building nodes off the application thread as long as they are not part of
+ * a shown scene yet. Only call the methods from the JavaFX application thread.
+ */
+final class GameScreenPreloader {
+    private static final URL GAME_SCREEN = Main.class.getResource("/fxml/GameScreen.fxml");
+
+    private static CompletableFuture<FXMLLoader> preloaded;
+
+    private GameScreenPreloader() {
+    }
+
+    /**
+     * Starts loading a game screen in the background, unless one is already loading or waiting to be taken.
+     */
+    static void preload() {
+        if (preloaded != null) {
+            return;
+        }
+
+        preloaded = CompletableFuture.supplyAsync(GameScreenPreloader::load, task -> {
+            Thread thread = new Thread(task, "game-screen-preloader");
+            thread.setDaemon(true);
+            // Leave the cores to the application thread while the menu is starting up
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.start();
+        });
+    }
+
+    /**
+     * Takes the preloaded game screen, waiting for it if it is still loading, or loads one
+     * right away if none was started.
+     * @return The loader, with the screen as its root and the screen's controller
+     * @throws IOException If the screen cannot be loaded
+     */
+    static FXMLLoader take() throws IOException {
+        CompletableFuture<FXMLLoader> screen = preloaded;
+        preloaded = null;
+        if (screen == null) {
+            FXMLLoader loader = new FXMLLoader(GAME_SCREEN);
+            loader.load();
+            return loader;
+        }
+
+        try {
+            return screen.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static FXMLLoader load() {
+        FXMLLoader loader = new FXMLLoader(GAME_SCREEN);
+        try {
+            loader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return loader;
+    }
+}
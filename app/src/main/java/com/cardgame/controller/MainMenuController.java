@@ -0,0 +1,248 @@
+package com.cardgame.controller;
+
+import com.cardgame.Main;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameSnapshot;
+import com.cardgame.engine.journal.JournalReader;
+import com.cardgame.engine.journal.ReplayTimeline;
+import com.cardgame.metrics.Metrics;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.TextField;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+/**
+ * Controller for the main menu screen.
+ */
+public class MainMenuController {
+    @FXML
+    private TextField player1NameField;
+
+    @FXML
+    private TextField player2NameField;
+
+    @FXML
+    private CheckBox computerOpponentCheckBox;
+
+    @FXML
+    private Button startGameButton;
+
+    @FXML
+    private Button loadGameButton;
+
+    @FXML
+    private Button watchReplayButton;
+
+    @FXML
+    private Button rulesButton;
+
+    @FXML
+    private Button exitButton;
+
+    // The game screen, built once and reused for every game after it
+    private Scene gameScene;
+    private GameScreenController gameScreen;
+
+    /**
+     * Starts building the game screen while the player is on the menu.
+     */
+    @FXML
+    private void initialize() {
+        GameScreenPreloader.preload();
+    }
+
+    /**
+     * Starts a new game with the entered player names.
+     */
+    @FXML
+    private void startGame(ActionEvent event) {
+        String player1Name = player1NameField.getText().trim();
+        String player2Name = player2NameField.getText().trim();
+
+        // Validate player names
+        if (player1Name.isEmpty() || player2Name.isEmpty()) {
+            showAlert("Invalid Names", "Please enter names for both players.");
+            return;
+        }
+
+        showGameScreen(controller -> controller.initializeGame(player1Name, player2Name,
+                computerOpponentCheckBox.isSelected()), "start the game");
+    }
+
+    /**
+     * Continues the saved game, with the computer playing player 2 if the box is checked.
+     */
+    @FXML
+    private void loadGame(ActionEvent event) {
+        if (!Files.exists(GameScreenController.SAVE_FILE)) {
+            showAlert("No Saved Game", "There is no saved game yet. Use Save Game during a match to create one.");
+            return;
+        }
+
+        Game state;
+        try {
+            state = GameSnapshot.decode(Files.readAllBytes(GameScreenController.SAVE_FILE));
+        } catch (IOException | IllegalArgumentException e) {
+            showAlert("Error", "Failed to load the saved game: " + e.getMessage());
+            return;
+        }
+
+        showGameScreen(controller -> controller.loadGame(state, computerOpponentCheckBox.isSelected()), "load the game");
+    }
+
+    /**
+     * Lets the player pick a game journal, by default the one new matches are recorded to,
+     * and watches its most recent game.
+     */
+    @FXML
+    private void watchReplay(ActionEvent event) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Open Game Journal");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Game journals", "*.bin"));
+        File directory = GameScreenController.REPLAY_FILE.getParent().toFile();
+        if (directory.isDirectory()) {
+            chooser.setInitialDirectory(directory);
+        }
+
+        File file = chooser.showOpenDialog(watchReplayButton.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        JournalReader reader = null;
+        ReplayTimeline timeline;
+        try {
+            reader = JournalReader.open(file.toPath());
+            long lastGame = -1;
+            while (reader.nextGame()) {
+                lastGame = reader.recordPosition();
+            }
+            if (lastGame < 0) {
+                reader.close();
+                showAlert("No Games", "The journal does not contain any games yet.");
+                return;
+            }
+
+            reader.seek(lastGame);
+            reader.next();
+            timeline = ReplayTimeline.of(reader, "Player 1", "Player 2");
+        } catch (IOException | IllegalStateException e) {
+            closeQuietly(reader);
+            showAlert("Error", "Failed to open the replay: " + e.getMessage());
+            return;
+        }
+
+        JournalReader journal = reader;
+        showGameScreen(controller -> controller.showReplay(journal, timeline), "show the replay");
+    }
+
+    private static void closeQuietly(JournalReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // Only reading; nothing is lost
+            }
+        }
+    }
+
+    /**
+     * Switches the window to the game screen and lets the caller set up its game. The screen
+     * is built the first time and reset for every game after that.
+     * @param setup Starts or continues a game on the screen's controller
+     * @param action What was being done, for the error message
+     */
+    private void showGameScreen(Consumer<GameScreenController> setup, String action) {
+        if (gameScreen == null) {
+            try {
+                // Take the game screen that was built in the background
+                FXMLLoader loader = GameScreenPreloader.take();
+                gameScreen = loader.getController();
+                gameScreen.setMenuScene(startGameButton.getScene());
+
+                gameScene = new Scene(loader.getRoot());
+                gameScene.getStylesheets().add(Main.class.getResource("/css/styles.css").toExternalForm());
+                Metrics.watchPulses(gameScene);
+            } catch (IOException e) {
+                e.printStackTrace();
+                showAlert("Error", "Failed to " + action + ": " + e.getMessage());
+                return;
+            }
+        }
+
+        // Bind the screen to the new game
+        setup.accept(gameScreen);
+
+        // Show the game screen
+        Stage stage = (Stage) startGameButton.getScene().getWindow();
+        stage.setScene(gameScene);
+        stage.setTitle("Rock-Paper-Scissors Card Battle");
+        stage.setResizable(true);
+        stage.show();
+    }
+
+    /**
+     * Shows the game rules.
+     */
+    @FXML
+    private void showRules(ActionEvent event) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Game Rules");
+        alert.setHeaderText("Rock-Paper-Scissors Card Battle Rules");
+
+        String rules = "GAME RULES:\n\n" +
+                "- Each player starts with 5 random cards.\n" +
+                "- The first five cards from the deck are showing.\n" +
+                "- For each round, a player can either:\n" +
+                "  1. Attack an opponent's card with one of their cards (once per round).\n" +
+                "  2. Pick up cards from the deck to switch with their table-cards (1-5 cards).\n\n" +
+                "- When a card is attacked, its defence is reduced first. When defence reaches 0,\n" +
+                "  the card's life is reduced.\n" +
+                "- When a card is killed (life reaches 0), that slot is locked and can't be used anymore.\n" +
+                "- The goal is to kill all of your opponent's 5 cards.\n\n" +
+                "CARD TYPES:\n\n" +
+                "Stone:\n" +
+                "- Life: 2, Defence: 10, Attack: 2\n\n" +
+                "Paper:\n" +
+                "- Life: 10, Defence: 1, Attack: 2\n" +
+                "- Special: Mutes either defence or attack on the attacked card until after\n" +
+                "  the player has made another turn.\n\n" +
+                "Scissors:\n" +
+                "- Life: 5, Defence: 3, Attack: 3\n" +
+                "- Special: Causes damage over time. First attack does max damage, and subsequent attacks (up to 3 total) do random damage from 1 to max attack.\n";
+
+        alert.setContentText(rules);
+        alert.showAndWait();
+    }
+
+    /**
+     * Exits the application.
+     */
+    @FXML
+    private void exitGame(ActionEvent event) {
+        Stage stage = (Stage) exitButton.getScene().getWindow();
+        stage.close();
+    }
+
+    /**
+     * Shows an alert dialog with the specified title and message.
+     */
+    private void showAlert(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
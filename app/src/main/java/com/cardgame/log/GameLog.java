@@ -0,0 +1,262 @@
+package com.cardgame.log;
+
+import javafx.collections.ObservableListBase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded, observable game log backed by a ring buffer.
+ * <p>
+ * At most {@code capacity} entries are held in memory. When spilling is enabled, every
+ * entry is also written to a temporary file, so entries that fell out of the buffer can be
+ * paged back in with {@link #pageBack(int)} and {@link #pageForward(int)}. Without spilling,
+ * the oldest entries are simply dropped.
+ */
+public class GameLog extends ObservableListBase<String> implements AutoCloseable {
+    private final String[] buffer;
+    private final LogSpillFile spill;
+    private int head;
+    private int size;
+    // Entry number of the first entry in the buffer, and of all entries ever appended
+    private long first;
+    private long total;
+
+    /**
+     * Creates a log that keeps only the newest entries.
+     * @param capacity Maximum number of entries held in memory
+     */
+    public GameLog(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Creates a log, optionally spilling all entries to a temporary file.
+     * @param capacity Maximum number of entries held in memory
+     * @param spillToDisk true to keep older entries on disk so they can be paged back in
+     */
+    public GameLog(int capacity, boolean spillToDisk) {
+        this.buffer = new String[capacity];
+        try {
+            this.spill = spillToDisk ? new LogSpillFile() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create game log spill file", e);
+        }
+    }
+
+    /**
+     * Appends an entry. If older entries are currently paged in, the log first jumps back to the newest entries.
+     * @param entry The entry text
+     */
+    public void append(String entry) {
+        if (spill != null) {
+            try {
+                spill.append(entry);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write game log spill file", e);
+            }
+        }
+
+        if (!isAtTail()) {
+            jumpToTail();
+        }
+
+        beginChange();
+        try {
+            if (size == buffer.length) {
+                nextRemove(0, popFront());
+            }
+            pushBack(entry);
+            nextAdd(size - 1, size);
+        } finally {
+            endChange();
+        }
+        total++;
+    }
+
+    /**
+     * Pages older entries back in from disk, dropping the same number of the newest entries from memory.
+     * @param count Maximum number of entries to load
+     * @return The number of entries loaded, inserted at the top of the list
+     */
+    public int pageBack(int count) {
+        int loaded = (int) Math.min(Math.min(count, buffer.length), earlierEntries());
+        if (loaded == 0) {
+            return 0;
+        }
+
+        List<String> entries = readEntries(first - loaded, loaded);
+
+        beginChange();
+        try {
+            int drop = Math.max(0, size + loaded - buffer.length);
+            if (drop > 0) {
+                List<String> removed = new ArrayList<>(drop);
+                for (int i = 0; i < drop; i++) {
+                    removed.add(0, popBack());
+                }
+                nextRemove(size, removed);
+            }
+
+            for (int i = loaded - 1; i >= 0; i--) {
+                pushFront(entries.get(i));
+            }
+            first -= loaded;
+            nextAdd(0, loaded);
+        } finally {
+            endChange();
+        }
+        return loaded;
+    }
+
+    /**
+     * Pages newer entries back in from disk, dropping the same number of the oldest entries from memory.
+     * @param count Maximum number of entries to load
+     * @return The number of entries loaded, appended at the bottom of the list
+     */
+    public int pageForward(int count) {
+        int loaded = (int) Math.min(Math.min(count, buffer.length), laterEntries());
+        if (loaded == 0) {
+            return 0;
+        }
+
+        List<String> entries = readEntries(first + size, loaded);
+
+        beginChange();
+        try {
+            int drop = Math.max(0, size + loaded - buffer.length);
+            if (drop > 0) {
+                List<String> removed = new ArrayList<>(drop);
+                for (int i = 0; i < drop; i++) {
+                    removed.add(popFront());
+                }
+                nextRemove(0, removed);
+            }
+
+            int from = size;
+            for (String entry : entries) {
+                pushBack(entry);
+            }
+            nextAdd(from, size);
+        } finally {
+            endChange();
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the number of older entries that can be paged back in.
+     * @return Entries before the first one in memory, or 0 without spilling
+     */
+    public long earlierEntries() {
+        return spill == null ? 0 : first;
+    }
+
+    /**
+     * Gets the number of newer entries that can be paged back in.
+     * @return Entries after the last one in memory
+     */
+    public long laterEntries() {
+        return total - (first + size);
+    }
+
+    /**
+     * Checks if the newest entry is in memory.
+     * @return true if no newer entries are waiting on disk
+     */
+    public boolean isAtTail() {
+        return laterEntries() == 0;
+    }
+
+    /**
+     * Replaces the buffer contents with the newest entries from disk.
+     */
+    private void jumpToTail() {
+        int keep = (int) Math.min(buffer.length, total);
+        List<String> entries = readEntries(total - keep, keep);
+
+        beginChange();
+        try {
+            List<String> removed = new ArrayList<>(this);
+            while (size > 0) {
+                popBack();
+            }
+            nextRemove(0, removed);
+
+            head = 0;
+            first = total - keep;
+            for (String entry : entries) {
+                pushBack(entry);
+            }
+            nextAdd(0, size);
+        } finally {
+            endChange();
+        }
+    }
+
+    private List<String> readEntries(long from, int count) {
+        List<String> entries = new ArrayList<>(count);
+        try {
+            for (long i = from; i < from + count; i++) {
+                entries.add(spill.read(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read game log spill file", e);
+        }
+        return entries;
+    }
+
+    private void pushFront(String entry) {
+        head = (head - 1 + buffer.length) % buffer.length;
+        buffer[head] = entry;
+        size++;
+    }
+
+    private void pushBack(String entry) {
+        buffer[(head + size) % buffer.length] = entry;
+        size++;
+    }
+
+    private String popBack() {
+        int index = (head + size - 1) % buffer.length;
+        String entry = buffer[index];
+        buffer[index] = null;
+        size--;
+        return entry;
+    }
+
+    private String popFront() {
+        String entry = buffer[head];
+        buffer[head] = null;
+        head = (head + 1) % buffer.length;
+        size--;
+        first++;
+        return entry;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid log index: " + index);
+        }
+        return buffer[(head + index) % buffer.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close game log spill file", e);
+            }
+        }
+    }
+}
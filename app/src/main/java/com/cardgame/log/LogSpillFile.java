@@ -0,0 +1,80 @@
+package com.cardgame.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only file of log entries that can be read back by entry number.
+ * Each entry is stored as a length-prefixed UTF-8 string; only the file
+ * offset of each entry is kept in memory.
+ */
+class LogSpillFile implements AutoCloseable {
+    private final Path path;
+    private final FileChannel channel;
+    private long[] offsets = new long[1024];
+    private int count;
+    private long end;
+
+    /**
+     * Creates a spill file in the temporary directory; it is deleted when closed.
+     */
+    LogSpillFile() throws IOException {
+        this.path = Files.createTempFile("cardgame-log", ".bin");
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /**
+     * Appends an entry to the end of the file.
+     * @param entry The entry text
+     */
+    void append(String entry) throws IOException {
+        byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        buffer.putInt(bytes.length).put(bytes).flip();
+
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = end;
+
+        while (buffer.hasRemaining()) {
+            end += channel.write(buffer, end);
+        }
+    }
+
+    /**
+     * Reads back an entry.
+     * @param index The entry number, starting at 0
+     * @return The entry text
+     */
+    String read(long index) throws IOException {
+        long offset = offsets[Math.toIntExact(index)];
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(length, offset);
+
+        ByteBuffer text = ByteBuffer.allocate(length.flip().getInt());
+        readFully(text, offset + Integer.BYTES);
+        return new String(text.array(), StandardCharsets.UTF_8);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of log spill file " + path);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,161 @@
+package com.cardgame.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ * <p>
+ * Durations are counted in log-linear buckets: below 16 ns every value has its own bucket,
+ * above that every power of two is split into 16 buckets, so a percentile is reported within
+ * about 6% of the true value over the whole range of a {@code long}. Recording is one atomic
+ * increment on the bucket plus two uncontended adds, so any thread can record without
+ * blocking, and reading percentiles never stops writers. A reading taken while times are
+ * being recorded may miss the newest ones.
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates an empty histogram.
+     * @param name What is being timed, such as the action name
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets what is being timed.
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds; negative durations count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.getAndIncrement(bucketOf(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records the time since a start taken with {@link Metrics#start()}, if metrics are enabled.
+     * @param start The start time
+     */
+    public void stop(long start) {
+        if (Metrics.ENABLED) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the highest value that falls into a bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * Gets the duration below which a share of the recorded durations fall.
+     * @param percentile Share from 0 to 100
+     * @return The duration in nanoseconds, at most the bucket width above the true value; 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            recorded += snapshot[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : total.sum() / 1e3 / recorded;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return max.get() / 1e3;
+    }
+
+    @Override
+    public double get50thPercentileMicros() {
+        return percentile(50) / 1e3;
+    }
+
+    @Override
+    public double get90thPercentileMicros() {
+        return percentile(90) / 1e3;
+    }
+
+    @Override
+    public double get99thPercentileMicros() {
+        return percentile(99) / 1e3;
+    }
+
+    @Override
+    public double get999thPercentileMicros() {
+        return percentile(99.9) / 1e3;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+}
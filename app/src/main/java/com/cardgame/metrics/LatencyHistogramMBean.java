@@ -0,0 +1,26 @@
+package com.cardgame.metrics;
+
+/**
+ * Management interface of a {@link LatencyHistogram}. Times are in microseconds.
+ */
+public interface LatencyHistogramMBean {
+
+    long getCount();
+
+    double getMeanMicros();
+
+    double getMaxMicros();
+
+    double get50thPercentileMicros();
+
+    double get90thPercentileMicros();
+
+    double get99thPercentileMicros();
+
+    double get999thPercentileMicros();
+
+    /**
+     * Forgets all recorded times.
+     */
+    void reset();
+}
@@ -0,0 +1,19 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the CSS and layout work of one pulse, see {@link Metrics#watchPulses(javafx.scene.Scene)}.
+ * Its duration is the point: the game actions and rebuilds recorded on the JavaFX application
+ * thread just before a slow pulse are what made it slow.
+ */
+@Name("com.cardgame.LayoutPulse")
+@Label("Layout Pulse")
+@Category({"Card Game", "UI"})
+@Description("CSS and layout pass of a JavaFX pulse on the game screen")
+public final class LayoutPulseEvent extends Event {
+}
@@ -0,0 +1,83 @@
+package com.cardgame.metrics;
+
+import javafx.scene.Scene;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Latency histograms of the game actions and the screen updates, published as MBeans
+ * named {@code com.cardgame:type=Latency,name=<histogram>} so they can be watched with
+ * JConsole or any other JMX client.
+ * <p>
+ * Instrumentation is off unless the application is started with {@code -Dcardgame.metrics=true}.
+ * {@link #ENABLED} is a constant, so when it is off the JIT compiler drops the timing code
+ * and the instrumented methods cost nothing extra.
+ */
+public final class Metrics {
+    /**
+     * Whether durations are recorded.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("cardgame.metrics");
+
+    public static final LatencyHistogram ATTACK = register("performAttack");
+    public static final LatencyHistogram SWITCH = register("switchCards");
+    public static final LatencyHistogram SWITCH_CHOSEN = register("switchCardsWithChosen");
+    public static final LatencyHistogram END_TURN = register("endTurn");
+
+    /**
+     * Rebuilds of the hands and the visible deck cards on the game screen.
+     */
+    public static final LatencyHistogram UI_REFRESH = register("uiRefresh");
+
+    /**
+     * CSS and layout work of each pulse of a watched scene, see {@link #watchPulses(Scene)}.
+     */
+    public static final LatencyHistogram PULSE = register("pulse");
+
+    private Metrics() {
+    }
+
+    private static LatencyHistogram register(String name) {
+        LatencyHistogram histogram = new LatencyHistogram(name);
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(histogram,
+                        new ObjectName("com.cardgame:type=Latency,name=" + name));
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to register the " + name + " histogram", e);
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Starts timing something that is recorded with {@link LatencyHistogram#stop(long)}.
+     * @return The start time, or 0 if metrics are disabled
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Times the CSS and layout part of every pulse that updates a scene, from just before
+     * its layout pass to just after it, into {@link #PULSE} and as a {@link LayoutPulseEvent}
+     * when a flight recording is running. Rendering is not included.
+     * @param scene The scene to watch
+     */
+    public static void watchPulses(Scene scene) {
+        // Flight recordings can be started at any time, so the listeners are always added
+        long[] pulseStart = new long[1];
+        LayoutPulseEvent[] pulseEvent = new LayoutPulseEvent[1];
+        scene.addPreLayoutPulseListener(() -> {
+            pulseStart[0] = start();
+            pulseEvent[0] = new LayoutPulseEvent();
+            pulseEvent[0].begin();
+        });
+        scene.addPostLayoutPulseListener(() -> {
+            PULSE.stop(pulseStart[0]);
+            pulseEvent[0].commit();
+        });
+    }
+}
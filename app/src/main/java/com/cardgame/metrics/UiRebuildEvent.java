@@ -0,0 +1,31 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a rebuild of card views on the game screen.
+ */
+@Name("com.cardgame.UiRebuild")
+@Label("UI Rebuild")
+@Category({"Card Game", "UI"})
+@Description("Card views of the game screen rebound to their cards")
+public final class UiRebuildEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Views Bound")
+    @Description("Card views bound to a card, whether reused or new")
+    public int viewsBound;
+
+    @Label("Nodes Added")
+    @Description("Card views added to the scene graph")
+    public int nodesAdded;
+
+    @Label("Nodes Removed")
+    @Description("Card views removed from the scene graph")
+    public int nodesRemoved;
+}
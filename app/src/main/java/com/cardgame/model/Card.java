@@ -0,0 +1,214 @@
+package com.cardgame.model;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Observable view of a rules-engine card.
+ * All rules live in {@link com.cardgame.engine.Card}; this class mirrors the
+ * engine state into JavaFX properties for the UI. The name, type and maximum
+ * stats never change, so they are read from the shared card definition instead.
+ * <p>
+ * Only cards shown in a {@link com.cardgame.view.CardView} are ever observed, so the
+ * properties are created together on the first call to one of the property methods.
+ * Until then, the getters read the engine card's fields and setters and syncs only write
+ * the engine card. Once the properties exist the getters read through them, which
+ * revalidates them so invalidation listeners hear about the next change as well.
+ */
+public abstract class Card {
+    private final com.cardgame.engine.Card state;
+    private Observables observables;
+
+    /**
+     * The properties of an observed card.
+     */
+    private static final class Observables {
+        final IntegerProperty currentLife;
+        final IntegerProperty currentDefence;
+        final IntegerProperty attack;
+        final BooleanProperty attackMuted;
+        final BooleanProperty defenceMuted;
+
+        Observables(Card card, com.cardgame.engine.Card state) {
+            currentLife = new SimpleIntegerProperty(card, "currentLife", state.getCurrentLife());
+            currentDefence = new SimpleIntegerProperty(card, "currentDefence", state.getCurrentDefence());
+            attack = new SimpleIntegerProperty(card, "attack", state.getAttack());
+            attackMuted = new SimpleBooleanProperty(card, "attackMuted", state.isAttackMuted());
+            defenceMuted = new SimpleBooleanProperty(card, "defenceMuted", state.isDefenceMuted());
+        }
+    }
+
+    protected Card(com.cardgame.engine.Card state) {
+        this.state = state;
+    }
+
+    /**
+     * Creates the matching view for an engine card.
+     * @param state The engine card
+     * @return The observable card
+     */
+    static Card of(com.cardgame.engine.Card state) {
+        if (state instanceof com.cardgame.engine.StoneCard stone) {
+            return new StoneCard(stone);
+        } else if (state instanceof com.cardgame.engine.PaperCard paper) {
+            return new PaperCard(paper);
+        } else if (state instanceof com.cardgame.engine.ScissorsCard scissors) {
+            return new ScissorsCard(scissors);
+        }
+        throw new IllegalArgumentException("Unknown card type: " + state.getType());
+    }
+
+    /**
+     * Resets any temporary effects on the card at the end of a turn.
+     */
+    public void endTurn() {
+        state.endTurn();
+        sync();
+    }
+
+    /**
+     * Copies the mutable engine state into the properties, if they have been created.
+     * Properties only notify listeners when the value actually changed.
+     */
+    void sync() {
+        Observables observables = this.observables;
+        if (observables != null) {
+            observables.currentLife.set(state.getCurrentLife());
+            observables.currentDefence.set(state.getCurrentDefence());
+            observables.attack.set(state.getAttack());
+            observables.attackMuted.set(state.isAttackMuted());
+            observables.defenceMuted.set(state.isDefenceMuted());
+        }
+    }
+
+    private Observables observables() {
+        if (observables == null) {
+            observables = new Observables(this, state);
+        }
+        return observables;
+    }
+
+    /**
+     * Gets the engine card backing this view.
+     * @return The engine card
+     */
+    com.cardgame.engine.Card getState() {
+        return state;
+    }
+
+    // Getters and setters with JavaFX property support
+    public String getName() {
+        return state.getName();
+    }
+
+    public String getType() {
+        return state.getType();
+    }
+
+    public int getMaxLife() {
+        return state.getMaxLife();
+    }
+
+    public int getCurrentLife() {
+        Observables observables = this.observables;
+        return observables != null ? observables.currentLife.get() : state.getCurrentLife();
+    }
+
+    public void setCurrentLife(int life) {
+        state.setCurrentLife(life);
+        if (observables != null) {
+            observables.currentLife.set(life);
+        }
+    }
+
+    public IntegerProperty currentLifeProperty() {
+        return observables().currentLife;
+    }
+
+    public int getMaxDefence() {
+        return state.getMaxDefence();
+    }
+
+    public int getCurrentDefence() {
+        Observables observables = this.observables;
+        return observables != null ? observables.currentDefence.get() : state.getCurrentDefence();
+    }
+
+    public void setCurrentDefence(int defence) {
+        state.setCurrentDefence(defence);
+        if (observables != null) {
+            observables.currentDefence.set(defence);
+        }
+    }
+
+    public IntegerProperty currentDefenceProperty() {
+        return observables().currentDefence;
+    }
+
+    public int getAttack() {
+        Observables observables = this.observables;
+        return observables != null ? observables.attack.get() : state.getAttack();
+    }
+
+    public void setAttack(int attack) {
+        state.setAttack(attack);
+        if (observables != null) {
+            observables.attack.set(attack);
+        }
+    }
+
+    public IntegerProperty attackProperty() {
+        return observables().attack;
+    }
+
+    public boolean isMuted() {
+        return state.isMuted();
+    }
+
+    public void setMuted(boolean muted) {
+        state.setMuted(muted);
+    }
+
+    public boolean isAttackMuted() {
+        Observables observables = this.observables;
+        return observables != null ? observables.attackMuted.get() : state.isAttackMuted();
+    }
+
+    public void setAttackMuted(boolean attackMuted) {
+        state.setAttackMuted(attackMuted);
+        if (observables != null) {
+            observables.attackMuted.set(attackMuted);
+        }
+    }
+
+    public BooleanProperty attackMutedProperty() {
+        return observables().attackMuted;
+    }
+
+    public boolean isDefenceMuted() {
+        Observables observables = this.observables;
+        return observables != null ? observables.defenceMuted.get() : state.isDefenceMuted();
+    }
+
+    public void setDefenceMuted(boolean defenceMuted) {
+        state.setDefenceMuted(defenceMuted);
+        if (observables != null) {
+            observables.defenceMuted.set(defenceMuted);
+        }
+    }
+
+    public BooleanProperty defenceMutedProperty() {
+        return observables().defenceMuted;
+    }
+
+    public boolean isDefeated() {
+        return state.isDefeated();
+    }
+
+    @Override
+    public String toString() {
+        return state.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.cardgame.model;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Maps engine cards to their observable views so every engine card is wrapped exactly once.
+ */
+class CardRegistry {
+    private final Map<com.cardgame.engine.Card, Card> cards = new IdentityHashMap<>();
+
+    /**
+     * Registers an existing view for its engine card.
+     * @param card The observable card
+     * @return The same card
+     */
+    Card register(Card card) {
+        cards.put(card.getState(), card);
+        return card;
+    }
+
+    /**
+     * Gets the view for an engine card, creating it on first use.
+     * @param state The engine card
+     * @return The observable card, or null if state is null
+     */
+    Card wrap(com.cardgame.engine.Card state) {
+        if (state == null) {
+            return null;
+        }
+        return cards.computeIfAbsent(state, Card::of);
+    }
+}
@@ -1,21 +1,18 @@
 package com.cardgame.model;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Represents the deck of cards in the game.
+ * Mirrors the visible window of a {@link com.cardgame.engine.Deck} into an observable list.
  */
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
-    private final ObservableList<Card> visibleCards = FXCollections.observableArrayList();
-    private static final int VISIBLE_CARDS_COUNT = 5;
-    private static final Random random = new Random();
+    private final com.cardgame.engine.Deck state;
+    private final CardRegistry registry;
+    private final VisibleCardList visibleCards = new VisibleCardList();
 
     /**
      * Creates a new deck with the specified number of each card type.
@@ -24,33 +21,20 @@ public class Deck {
      * @param scissorsCount Number of scissors cards
      */
     public Deck(int stoneCount, int paperCount, int scissorsCount) {
-        // Add stone cards
-        for (int i = 0; i < stoneCount; i++) {
-            cards.add(new StoneCard());
-        }
-
-        // Add paper cards
-        for (int i = 0; i < paperCount; i++) {
-            cards.add(new PaperCard());
-        }
-
-        // Add scissors cards
-        for (int i = 0; i < scissorsCount; i++) {
-            cards.add(new ScissorsCard());
-        }
-
-        // Shuffle the deck
-        shuffle();
+        this(new com.cardgame.engine.Deck(stoneCount, paperCount, scissorsCount), new CardRegistry());
+    }
 
-        // Initialize visible cards
-        refreshVisibleCards();
+    Deck(com.cardgame.engine.Deck state, CardRegistry registry) {
+        this.state = state;
+        this.registry = registry;
+        sync();
     }
 
     /**
      * Shuffles the deck.
      */
     public void shuffle() {
-        Collections.shuffle(cards, random);
+        state.shuffle();
     }
 
     /**
@@ -60,14 +44,10 @@ public class Deck {
      */
     public List<Card> drawCards(int count) {
         List<Card> drawnCards = new ArrayList<>();
-
-        for (int i = 0; i < count && !cards.isEmpty(); i++) {
-            drawnCards.add(cards.remove(0));
+        for (com.cardgame.engine.Card card : state.drawCards(count)) {
+            drawnCards.add(registry.wrap(card));
         }
-
-        // Refresh visible cards after drawing
-        refreshVisibleCards();
-
+        sync();
         return drawnCards;
     }
 
@@ -76,12 +56,8 @@ public class Deck {
      * @return The drawn card, or null if the deck is empty
      */
     public Card drawCard() {
-        if (cards.isEmpty()) {
-            return null;
-        }
-
-        Card card = cards.remove(0);
-        refreshVisibleCards();
+        Card card = registry.wrap(state.drawCard());
+        sync();
         return card;
     }
 
@@ -91,11 +67,8 @@ public class Deck {
      * @return true if the card was found and removed, false otherwise
      */
     public boolean removeVisibleCard(Card cardToRemove) {
-        boolean removed = visibleCards.remove(cardToRemove);
-
-        // Also remove from the main deck if it's there
-        cards.remove(cardToRemove);
-
+        boolean removed = state.removeVisibleCard(cardToRemove.getState());
+        sync();
         return removed;
     }
 
@@ -103,16 +76,26 @@ public class Deck {
      * Forcibly refreshes the visible cards from the top of the deck.
      */
     public void refreshVisibleCards() {
-        visibleCards.clear();
+        state.refreshVisibleCards();
+        sync();
+    }
 
-        for (int i = 0; i < VISIBLE_CARDS_COUNT && i < cards.size(); i++) {
-            visibleCards.add(cards.get(i));
+    /**
+     * Copies the engine's visible window into the observable list.
+     * Only cards that left or entered the window are reported to listeners.
+     */
+    void sync() {
+        List<Card> window = new ArrayList<>();
+        for (com.cardgame.engine.Card card : state.getVisibleCards()) {
+            window.add(registry.wrap(card));
         }
+
+        visibleCards.update(window);
     }
 
     /**
      * Gets the current visible cards from the top of the deck.
-     * @return Observable list of visible cards
+     * @return Read-only observable list of visible cards
      */
     public ObservableList<Card> getVisibleCards() {
         return visibleCards;
@@ -123,7 +106,7 @@ public class Deck {
      * @return Number of remaining cards
      */
     public int getRemainingCards() {
-        return cards.size();
+        return state.getRemainingCards();
     }
 
     /**
@@ -131,7 +114,6 @@ public class Deck {
      * @return true if the deck is empty, false otherwise
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return state.isEmpty();
     }
 }
-
@@ -0,0 +1,204 @@
+package com.cardgame.model;
+
+import com.cardgame.engine.CombatLogFormatter;
+import com.cardgame.engine.GameListener;
+import com.cardgame.engine.ai.Move;
+import com.cardgame.metrics.Metrics;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JavaFX adapter around the headless {@link com.cardgame.engine.Game}.
+ * Every action is delegated to the engine, after which the observable
+ * players, cards and deck are synced from the engine state. The engine's
+ * outcome events are rendered to text here, for the game log.
+ */
+public class Game {
+    private final com.cardgame.engine.Game state;
+    private final CardRegistry registry = new CardRegistry();
+    private final CombatLogFormatter log = new CombatLogFormatter();
+    private final Player player1;
+    private final Player player2;
+    private final Deck deck;
+    private final IntegerProperty currentPlayerIndex = new SimpleIntegerProperty(0);
+    private final StringProperty gameStatus = new SimpleStringProperty();
+
+    /**
+     * Creates a new game with two players.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     */
+    public Game(String player1Name, String player2Name) {
+        this(new com.cardgame.engine.Game(player1Name, player2Name));
+    }
+
+    /**
+     * Creates a new game with two players whose randomness is fully determined by the seed.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param seed Seed for the game's random source
+     */
+    public Game(String player1Name, String player2Name, long seed) {
+        this(new com.cardgame.engine.Game(player1Name, player2Name, seed));
+    }
+
+    /**
+     * Creates an observable view of an existing engine game.
+     * @param state The engine game to adapt
+     */
+    public Game(com.cardgame.engine.Game state) {
+        this.state = state;
+        state.setListener(log);
+        this.player1 = new Player(state.getPlayer1(), registry);
+        this.player2 = new Player(state.getPlayer2(), registry);
+        this.deck = new Deck(state.getDeck(), registry);
+        sync();
+    }
+
+    /**
+     * Passes the engine's events to a recorder as well as to the game log.
+     * @param recorder Listener such as a journal recorder; replaces any previous one
+     */
+    public void setRecorder(GameListener recorder) {
+        state.setListener(GameListener.both(log, recorder));
+    }
+
+    /**
+     * Performs an attack from one player's card to an opponent's card.
+     * @param attackingCardIndex Index of the attacking card
+     * @param targetCardIndex Index of the target card
+     * @return Result of the attack as a string
+     */
+    public String performAttack(int attackingCardIndex, int targetCardIndex) {
+        long start = Metrics.start();
+        state.performAttack(attackingCardIndex, targetCardIndex);
+        sync();
+        Metrics.ATTACK.stop(start);
+        return log.take();
+    }
+
+    /**
+     * Switches cards from the player's hand with cards from the deck.
+     * @param cardIndices Indices of the cards to switch
+     * @return Result of the switch operation as a string
+     */
+    public String switchCards(List<Integer> cardIndices) {
+        long start = Metrics.start();
+        state.switchCards(cardIndices);
+        sync();
+        Metrics.SWITCH.stop(start);
+        return log.take();
+    }
+
+    /**
+     * Switches cards from the player's hand with specific cards from the deck.
+     * @param playerCardIndices Indices of the player's cards to switch
+     * @param chosenDeckCards The specific deck cards to use as replacements
+     * @return Result of the switch operation as a string
+     */
+    public String switchCardsWithChosen(List<Integer> playerCardIndices, List<Card> chosenDeckCards) {
+        List<com.cardgame.engine.Card> chosenStates = new ArrayList<>(chosenDeckCards.size());
+        for (Card card : chosenDeckCards) {
+            chosenStates.add(card.getState());
+        }
+
+        long start = Metrics.start();
+        state.switchCardsWithChosen(playerCardIndices, chosenStates);
+        sync();
+        Metrics.SWITCH_CHOSEN.stop(start);
+        return log.take();
+    }
+
+    /**
+     * Plays a move chosen by a computer player. It is timed in the histogram of the action
+     * it carries out, like the same action of a human player.
+     * @param move The move to play
+     * @return Result of the move as a string
+     */
+    public String play(Move move) {
+        long start = Metrics.start();
+        move.applyTo(state);
+        sync();
+        switch (move.getKind()) {
+            case SWITCH -> Metrics.SWITCH_CHOSEN.stop(start);
+            case ATTACK -> Metrics.ATTACK.stop(start);
+            case END_TURN -> Metrics.END_TURN.stop(start);
+        }
+        return log.take();
+    }
+
+    /**
+     * Ends the current player's turn and switches to the other player.
+     */
+    public void endTurn() {
+        long start = Metrics.start();
+        state.endTurn();
+        sync();
+        Metrics.END_TURN.stop(start);
+    }
+
+    /**
+     * Copies the engine state into the observable properties.
+     */
+    private void sync() {
+        player1.sync();
+        player2.sync();
+        deck.sync();
+        currentPlayerIndex.set(state.getCurrentPlayerIndex());
+        gameStatus.set(state.getGameStatus());
+    }
+
+    /**
+     * Gets the current player.
+     * @return The current player
+     */
+    public Player getCurrentPlayer() {
+        return currentPlayerIndex.get() == 0 ? player1 : player2;
+    }
+
+    /**
+     * Gets the opponent of the current player.
+     * @return The opponent player
+     */
+    public Player getOpponent() {
+        return currentPlayerIndex.get() == 0 ? player2 : player1;
+    }
+
+    // Getters
+    public com.cardgame.engine.Game getState() {
+        return state;
+    }
+
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public Deck getDeck() {
+        return deck;
+    }
+
+    public IntegerProperty currentPlayerIndexProperty() {
+        return currentPlayerIndex;
+    }
+
+    public StringProperty gameStatusProperty() {
+        return gameStatus;
+    }
+
+    public String getGameStatus() {
+        return gameStatus.get();
+    }
+
+    public boolean isGameOver() {
+        return state.isGameOver();
+    }
+}
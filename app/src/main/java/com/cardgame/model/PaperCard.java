@@ -0,0 +1,16 @@
+package com.cardgame.model;
+
+/**
+ * Represents a Paper card in the game.
+ * Paper cards have high life but low defense and can mute opponent cards.
+ */
+public class PaperCard extends Card {
+
+    public PaperCard() {
+        this(new com.cardgame.engine.PaperCard());
+    }
+
+    PaperCard(com.cardgame.engine.PaperCard state) {
+        super(state);
+    }
+}
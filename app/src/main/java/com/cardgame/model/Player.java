@@ -0,0 +1,117 @@
+package com.cardgame.model;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+
+/**
+ * Represents a player in the game with their hand of cards.
+ * Mirrors a {@link com.cardgame.engine.Player} into observable properties.
+ */
+public class Player {
+    private final com.cardgame.engine.Player state;
+    private final CardRegistry registry;
+    private final StringProperty name = new SimpleStringProperty();
+    private final ObservableList<Card> cards = FXCollections.observableArrayList();
+
+    public Player(String name) {
+        this(new com.cardgame.engine.Player(name), new CardRegistry());
+    }
+
+    Player(com.cardgame.engine.Player state, CardRegistry registry) {
+        this.state = state;
+        this.registry = registry;
+        this.name.set(state.getName());
+        sync();
+    }
+
+    /**
+     * Adds a card to the player's hand.
+     * @param card The card to add
+     */
+    public void addCard(Card card) {
+        registry.register(card);
+        state.addCard(card.getState());
+        sync();
+    }
+
+    /**
+     * Replaces a card at the specified position.
+     * @param index The position of the card to replace
+     * @param newCard The new card
+     * @return The old card that was replaced
+     */
+    public Card replaceCard(int index, Card newCard) {
+        registry.register(newCard);
+        Card oldCard = registry.wrap(state.replaceCard(index, newCard.getState()));
+        sync();
+        return oldCard;
+    }
+
+    /**
+     * Checks if the player has lost (all cards defeated).
+     * @return true if all cards are defeated, false otherwise
+     */
+    public boolean hasLost() {
+        return state.hasLost();
+    }
+
+    /**
+     * Resets the player's attack status for a new turn.
+     */
+    public void startNewTurn() {
+        state.startNewTurn();
+        sync();
+    }
+
+    /**
+     * Copies the engine hand into the observable card list.
+     * Only slots whose card changed are replaced, so listeners see minimal changes.
+     */
+    void sync() {
+        List<com.cardgame.engine.Card> hand = state.getCards();
+
+        for (int i = 0; i < hand.size(); i++) {
+            Card card = registry.wrap(hand.get(i));
+            if (i >= cards.size()) {
+                cards.add(card);
+            } else if (cards.get(i) != card) {
+                cards.set(i, card);
+            }
+            card.sync();
+        }
+
+        if (cards.size() > hand.size()) {
+            cards.remove(hand.size(), cards.size());
+        }
+    }
+
+    // Getters and setters
+    public String getName() {
+        return name.get();
+    }
+
+    public StringProperty nameProperty() {
+        return name;
+    }
+
+    public ObservableList<Card> getCards() {
+        return cards;
+    }
+
+    public boolean hasAttackedThisTurn() {
+        return state.hasAttackedThisTurn();
+    }
+
+    public void setHasAttackedThisTurn(boolean hasAttackedThisTurn) {
+        state.setHasAttackedThisTurn(hasAttackedThisTurn);
+    }
+
+    @Override
+    public String toString() {
+        return state.toString();
+    }
+}
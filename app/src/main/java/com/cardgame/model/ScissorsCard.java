@@ -0,0 +1,16 @@
+package com.cardgame.model;
+
+/**
+ * Represents a Scissors card in the game.
+ * Scissors cards deal damage over time with up to 3 iterations.
+ */
+public class ScissorsCard extends Card {
+
+    public ScissorsCard() {
+        this(new com.cardgame.engine.ScissorsCard());
+    }
+
+    ScissorsCard(com.cardgame.engine.ScissorsCard state) {
+        super(state);
+    }
+}
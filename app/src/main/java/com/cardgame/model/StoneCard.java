@@ -7,7 +7,11 @@ package com.cardgame.model;
 public class StoneCard extends Card {
 
     public StoneCard() {
-        super("Regular Stone", "Stone", 2, 10, 2);
+        this(new com.cardgame.engine.StoneCard());
+    }
+
+    StoneCard(com.cardgame.engine.StoneCard state) {
+        super(state);
     }
 
     // Stone cards have no special abilities in the base version
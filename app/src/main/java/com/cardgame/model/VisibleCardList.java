@@ -0,0 +1,60 @@
+package com.cardgame.model;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only observable list holding the visible window of the deck.
+ * Updates are applied as a diff against the previous window, so listeners
+ * receive one batched change that only covers the cards that left or entered.
+ */
+class VisibleCardList extends ObservableListBase<Card> {
+    private final List<Card> cards = new ArrayList<>();
+
+    /**
+     * Moves the list to the given window, firing a single change if anything differs.
+     * @param window The cards now visible, top of the deck first
+     */
+    void update(List<Card> window) {
+        beginChange();
+        try {
+            // Remove cards that left the window, back to front so indices stay valid
+            for (int i = cards.size() - 1; i >= 0; i--) {
+                if (!window.contains(cards.get(i))) {
+                    nextRemove(i, cards.remove(i));
+                }
+            }
+
+            // Insert cards that entered the window at their new positions
+            for (int i = 0; i < window.size(); i++) {
+                Card card = window.get(i);
+                if (i < cards.size() && cards.get(i) == card) {
+                    continue;
+                }
+
+                // A card that is already visible but out of place is moved
+                int oldIndex = cards.indexOf(card);
+                if (oldIndex >= 0) {
+                    nextRemove(oldIndex, cards.remove(oldIndex));
+                }
+
+                cards.add(i, card);
+                nextAdd(i, i + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+}
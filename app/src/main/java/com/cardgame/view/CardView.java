@@ -1,9 +1,9 @@
 package com.cardgame.view;
 
 import com.cardgame.model.Card;
-import com.cardgame.model.PaperCard;
-import com.cardgame.model.ScissorsCard;
-import com.cardgame.model.StoneCard;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -17,10 +17,16 @@ import javafx.scene.text.FontWeight;
 
 /**
  * Visual representation of a card in the game.
+ * The view listens only to its own card's properties, through a weak listener,
+ * so a change to one card repaints only that card and a discarded view can be collected.
+ * A view can be rebound to another card with {@link #bind(Card, int)}, which lets
+ * {@link CardViewPool} reuse the same nodes across hand and deck redraws.
+ * Card changes are not painted at once; they go through {@link RefreshScheduler},
+ * so a burst of changes repaints the view a single time.
  */
 public class CardView extends VBox {
-    private final Card card;
-    private final int index;
+    private Card card;
+    private int index;
     private final Label nameLabel;
     private final Label typeLabel;
     private final Label lifeLabel;
@@ -28,18 +34,28 @@ public class CardView extends VBox {
     private final Label attackLabel;
     private final Label statusLabel;
 
+    // Set when the card changed and the view is waiting for the scheduler to repaint it
+    private boolean dirty;
+
+    // Held strongly here; the card's properties only see the weak wrapper
+    private final InvalidationListener cardListener = observable -> markDirty();
+    private final WeakInvalidationListener weakCardListener = new WeakInvalidationListener(cardListener);
+
     private static final double CARD_WIDTH = 120;
     private static final double CARD_HEIGHT = 180;
 
+    // Backgrounds are immutable, so every view of the same type shares one
+    private static final Background STONE_BACKGROUND = cardBackground(Color.rgb(50, 50, 70, 0.9)); // Dark blue-gray for Stone
+    private static final Background PAPER_BACKGROUND = cardBackground(Color.rgb(70, 50, 70, 0.9)); // Dark purple for Paper
+    private static final Background SCISSORS_BACKGROUND = cardBackground(Color.rgb(50, 70, 70, 0.9)); // Dark cyan for Scissors
+    private static final Background DEFAULT_BACKGROUND = cardBackground(Color.rgb(60, 60, 60, 0.9)); // Default dark gray
+
     /**
      * Creates a new card view for the specified card.
      * @param card The card to visualize
      * @param index The index of the card in the player's hand or deck
      */
     public CardView(Card card, int index) {
-        this.card = card;
-        this.index = index;
-
         // Set up the card view
         setPrefSize(CARD_WIDTH, CARD_HEIGHT);
         setAlignment(Pos.CENTER);
@@ -47,31 +63,28 @@ public class CardView extends VBox {
         setPadding(new Insets(10));
         getStyleClass().add("card-view");
 
-        // Set background color based on card type
-        setCardBackground();
-
         // Create labels for card information
-        nameLabel = new Label(card.getName());
+        nameLabel = new Label();
         nameLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
         nameLabel.setWrapText(true);
         nameLabel.setAlignment(Pos.CENTER);
         nameLabel.setTextFill(Color.WHITE);
         nameLabel.setStyle("-fx-effect: dropshadow(gaussian, #00f7ff80, 2, 0, 0, 0);");
 
-        typeLabel = new Label(card.getType());
+        typeLabel = new Label();
         typeLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
         typeLabel.setTextFill(Color.WHITE);
         typeLabel.setStyle("-fx-effect: dropshadow(gaussian, #00f7ff80, 2, 0, 0, 0);");
 
-        lifeLabel = new Label("Life: " + card.getCurrentLife() + "/" + card.getMaxLife());
+        lifeLabel = new Label();
         lifeLabel.setTextFill(Color.WHITE);
         lifeLabel.setStyle("-fx-effect: dropshadow(gaussian, #00f7ff80, 2, 0, 0, 0);");
 
-        defenceLabel = new Label("Defence: " + card.getCurrentDefence() + "/" + card.getMaxDefence());
+        defenceLabel = new Label();
         defenceLabel.setTextFill(Color.WHITE);
         defenceLabel.setStyle("-fx-effect: dropshadow(gaussian, #00f7ff80, 2, 0, 0, 0);");
 
-        attackLabel = new Label("Attack: " + card.getAttack());
+        attackLabel = new Label();
         attackLabel.setTextFill(Color.WHITE);
         attackLabel.setStyle("-fx-effect: dropshadow(gaussian, #00f7ff80, 2, 0, 0, 0);");
 
@@ -83,14 +96,77 @@ public class CardView extends VBox {
         // Add labels to the card view
         getChildren().addAll(nameLabel, typeLabel, lifeLabel, defenceLabel, attackLabel, statusLabel);
 
-        // Update the card view
+        bind(card, index);
+    }
+
+    /**
+     * Points this view at another card, dropping the listeners on the previous one.
+     * @param card The card to visualize
+     * @param index The index of the card in the player's hand or deck
+     */
+    public void bind(Card card, int index) {
+        this.index = index;
+        if (card != this.card) {
+            dispose();
+            this.card = card;
+
+            nameLabel.setText(card.getName());
+            typeLabel.setText(card.getType());
+            setCardBackground();
+
+            for (Observable property : observedProperties()) {
+                property.addListener(weakCardListener);
+            }
+        }
+
+        setSelected(false);
         updateCardView();
     }
 
+    /**
+     * Stops following the card and forgets it. Call this when the view is removed from the screen.
+     */
+    public void dispose() {
+        if (card == null) {
+            return;
+        }
+        for (Observable property : observedProperties()) {
+            property.removeListener(weakCardListener);
+        }
+        card = null;
+    }
+
+    private Observable[] observedProperties() {
+        return new Observable[] {
+                card.currentLifeProperty(), card.currentDefenceProperty(), card.attackProperty(),
+                card.attackMutedProperty(), card.defenceMutedProperty()
+        };
+    }
+
+    private void markDirty() {
+        if (!dirty) {
+            dirty = true;
+            RefreshScheduler.getInstance().schedule(this);
+        }
+    }
+
+    /**
+     * Repaints the view if a change is still pending. A view that was released in the
+     * meantime has no card and is skipped.
+     */
+    void refreshIfDirty() {
+        if (dirty && card != null) {
+            updateCardView();
+        }
+        dirty = false;
+    }
+
     /**
      * Updates the card view to reflect the current state of the card.
      */
     public void updateCardView() {
+        dirty = false;
+
         // Update labels
         lifeLabel.setText("Life: " + card.getCurrentLife() + "/" + card.getMaxLife());
         defenceLabel.setText("Defence: " + card.getCurrentDefence() + "/" + card.getMaxDefence());
@@ -102,6 +178,10 @@ public class CardView extends VBox {
             setDisable(true);
             setOpacity(0.7);
         } else {
+            // A reused view may still carry the defeated look of its previous card
+            setDisable(false);
+            setOpacity(1.0);
+
             StringBuilder status = new StringBuilder();
 
             if (card.isAttackMuted()) {
@@ -123,19 +203,16 @@ public class CardView extends VBox {
      * Sets the background color of the card based on its type.
      */
     private void setCardBackground() {
-        Color bgColor;
-
-        if (card instanceof StoneCard) {
-            bgColor = Color.rgb(50, 50, 70, 0.9); // Dark blue-gray for Stone
-        } else if (card instanceof PaperCard) {
-            bgColor = Color.rgb(70, 50, 70, 0.9); // Dark purple for Paper
-        } else if (card instanceof ScissorsCard) {
-            bgColor = Color.rgb(50, 70, 70, 0.9); // Dark cyan for Scissors
-        } else {
-            bgColor = Color.rgb(60, 60, 60, 0.9); // Default dark gray
-        }
+        setBackground(switch (card.getType()) {
+            case "Stone" -> STONE_BACKGROUND;
+            case "Paper" -> PAPER_BACKGROUND;
+            case "Scissors" -> SCISSORS_BACKGROUND;
+            default -> DEFAULT_BACKGROUND;
+        });
+    }
 
-        setBackground(new Background(new BackgroundFill(bgColor, new CornerRadii(10), Insets.EMPTY)));
+    private static Background cardBackground(Color color) {
+        return new Background(new BackgroundFill(color, new CornerRadii(10), Insets.EMPTY));
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.cardgame.view;
+
+import com.cardgame.model.Card;
+
+import java.util.ArrayDeque;
+
+/**
+ * Keeps released card views so later redraws can rebind them instead of building new nodes.
+ * Only touch the pool from the JavaFX application thread.
+ */
+public class CardViewPool {
+    private final ArrayDeque<CardView> freeViews = new ArrayDeque<>();
+    private final int maxSize;
+
+    /**
+     * Creates a pool that keeps at most the given number of idle views.
+     * @param maxSize The largest number of released views kept for reuse
+     */
+    public CardViewPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets a view bound to the given card, reusing an idle view when there is one.
+     * @param card The card to visualize
+     * @param index The index of the card in the player's hand or deck
+     * @return A view showing the card
+     */
+    public CardView acquire(Card card, int index) {
+        CardView cardView = freeViews.pollFirst();
+        if (cardView == null) {
+            return new CardView(card, index);
+        }
+
+        cardView.bind(card, index);
+        return cardView;
+    }
+
+    /**
+     * Returns a view to the pool. The view must already be removed from the scene graph.
+     * @param cardView The view to recycle
+     */
+    public void release(CardView cardView) {
+        cardView.dispose();
+        cardView.setOnMouseClicked(null);
+        if (freeViews.size() < maxSize) {
+            freeViews.addFirst(cardView);
+        }
+    }
+
+    /**
+     * Drops all idle views.
+     */
+    public void clear() {
+        freeViews.clear();
+    }
+}
@@ -0,0 +1,59 @@
+package com.cardgame.view;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects card views whose cards changed and repaints each of them once, on the next
+ * pass of the JavaFX application thread, however many properties changed in between.
+ * An attack that moves defence and life several times therefore costs one label update
+ * and one layout pass per card. Only use the scheduler from the JavaFX application thread.
+ */
+public final class RefreshScheduler {
+    private static final RefreshScheduler INSTANCE = new RefreshScheduler();
+
+    private List<CardView> dirtyViews = new ArrayList<>();
+    private List<CardView> flushingViews = new ArrayList<>();
+    private boolean flushScheduled;
+
+    private RefreshScheduler() {
+    }
+
+    /**
+     * Gets the scheduler shared by all card views.
+     * @return The scheduler
+     */
+    public static RefreshScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues a view for repainting. The caller marks the view dirty so it is queued only once.
+     */
+    void schedule(CardView cardView) {
+        dirtyViews.add(cardView);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Repaints every queued view right away instead of waiting for the next pass.
+     */
+    public void flush() {
+        flushScheduled = false;
+
+        // Swap the lists so views dirtied while flushing are queued for the next pass
+        List<CardView> views = dirtyViews;
+        dirtyViews = flushingViews;
+        flushingViews = views;
+
+        for (CardView cardView : views) {
+            cardView.refreshIfDirty();
+        }
+        views.clear();
+    }
+}
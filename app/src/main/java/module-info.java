@@ -1,12 +1,9 @@
 module se.iths.java24.demo {
     requires javafx.controls;
     requires javafx.fxml;
-
-    requires org.controlsfx.controls;
-    requires com.dlsc.formsfx;
-    requires org.kordamp.ikonli.javafx;
-    requires org.kordamp.bootstrapfx.core;
-    requires com.almasb.fxgl.all;
+    requires java.management;
+    requires jdk.jfr;
+    requires transitive com.cardgame.engine;
 
     // Original opens
     opens se.iths.java24.demo to javafx.fxml;
@@ -22,6 +19,7 @@ module se.iths.java24.demo {
     // Card game exports
     exports com.cardgame to javafx.graphics;
     exports com.cardgame.controller to javafx.fxml;
+    exports com.cardgame.metrics;
     exports com.cardgame.model;
     exports com.cardgame.view;
 }
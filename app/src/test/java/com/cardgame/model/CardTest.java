@@ -0,0 +1,70 @@
+package com.cardgame.model;
+
+import javafx.beans.InvalidationListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardTest {
+
+    /**
+     * A card view marks itself dirty on invalidation and reads the getters when it refreshes,
+     * so every change after a read must invalidate again.
+     */
+    @Test
+    void observedPropertiesInvalidateOnEveryChange() {
+        Card card = new PaperCard();
+        int[] invalidations = new int[5];
+        card.currentLifeProperty().addListener((InvalidationListener) observable -> invalidations[0]++);
+        card.currentDefenceProperty().addListener((InvalidationListener) observable -> invalidations[1]++);
+        card.attackProperty().addListener((InvalidationListener) observable -> invalidations[2]++);
+        card.attackMutedProperty().addListener((InvalidationListener) observable -> invalidations[3]++);
+        card.defenceMutedProperty().addListener((InvalidationListener) observable -> invalidations[4]++);
+
+        for (int i = 1; i <= 4; i++) {
+            card.setCurrentLife(10 - i);
+            card.setCurrentDefence(1 + i);
+            card.setAttack(i);
+            card.setAttackMuted(i % 2 == 1);
+            card.setDefenceMuted(i % 2 == 1);
+
+            assertEquals(10 - i, card.getCurrentLife());
+            assertEquals(1 + i, card.getCurrentDefence());
+            assertEquals(i, card.getAttack());
+            assertEquals(i % 2 == 1, card.isAttackMuted());
+            assertEquals(i % 2 == 1, card.isDefenceMuted());
+        }
+
+        for (int count : invalidations) {
+            assertEquals(4, count);
+        }
+    }
+
+    @Test
+    void unobservedCardReadsEngineState() {
+        Card card = new ScissorsCard();
+        card.getState().setCurrentLife(1);
+        card.getState().setDefenceMuted(true);
+
+        assertEquals(1, card.getCurrentLife());
+        assertTrue(card.isDefenceMuted());
+        assertFalse(card.isDefeated());
+    }
+
+    @Test
+    void syncUpdatesObservedCardAfterEngineChanges() {
+        Card card = new StoneCard();
+        int[] invalidations = new int[1];
+        card.currentLifeProperty().addListener((InvalidationListener) observable -> invalidations[0]++);
+
+        for (int life = 1; life >= 0; life--) {
+            card.getState().setCurrentLife(life);
+            card.sync();
+            assertEquals(life, card.getCurrentLife());
+        }
+
+        assertEquals(2, invalidations[0]);
+    }
+}
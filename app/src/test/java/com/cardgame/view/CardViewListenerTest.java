@@ -0,0 +1,237 @@
+package com.cardgame.view;
+
+import com.cardgame.model.Card;
+import com.cardgame.model.Game;
+import com.cardgame.model.Player;
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.scene.control.Label;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays long seeded games while binding card views the way the game screen does: hand views
+ * are rebound in place, deck views go back to the pool and come out bound to other cards.
+ * Every card must end up with exactly one listener per property while it is shown and none
+ * once it is not, and every shown view must repaint after each change of its card.
+ */
+class CardViewListenerTest {
+    private static final int GAMES = 20;
+    private static final int MAX_TURNS = 200;
+    private static final int POOL_SIZE = 16;
+
+    private final CardViewPool pool = new CardViewPool(POOL_SIZE);
+    private final List<CardView> hand1Views = new ArrayList<>();
+    private final List<CardView> hand2Views = new ArrayList<>();
+    private final List<CardView> deckViews = new ArrayList<>();
+    private final Set<Card> seenCards = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @BeforeAll
+    static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // Already started by another test class
+            started.countDown();
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS), "The JavaFX toolkit did not start");
+        Platform.setImplicitExit(false);
+    }
+
+    @Test
+    void listenerCountsStayConstantOverLongGames() throws Exception {
+        onFxThread(() -> {
+            SplittableRandom random = new SplittableRandom(9);
+            int turns = 0;
+            for (int g = 0; g < GAMES; g++) {
+                Game game = new Game("Player 1", "Player 2", random.nextLong());
+                bindAll(game);
+                for (int t = 0; t < MAX_TURNS && !game.isGameOver(); t++) {
+                    playTurn(game, random);
+                    turns++;
+                }
+            }
+            assertTrue(turns > 500, "Only " + turns + " turns were played");
+        });
+    }
+
+    private void playTurn(Game game, SplittableRandom random) {
+        Player player = game.getCurrentPlayer();
+        if (random.nextInt(4) == 0) {
+            int index = liveCard(player, random);
+            if (index >= 0) {
+                game.switchCards(List.of(index));
+                // The screen rebuilds after a switch, since hand and deck changed
+                bindAll(game);
+            }
+        }
+
+        int attacker = liveCard(player, random);
+        int target = liveCard(game.getOpponent(), random);
+        if (attacker >= 0 && target >= 0) {
+            game.performAttack(attacker, target);
+            // Views follow their cards without a rebuild
+            checkViews(game);
+        }
+
+        if (!game.isGameOver()) {
+            game.endTurn();
+            checkViews(game);
+            bindAll(game);
+        }
+    }
+
+    private static int liveCard(Player player, SplittableRandom random) {
+        List<Integer> live = new ArrayList<>();
+        for (int i = 0; i < player.getCards().size(); i++) {
+            if (!player.getCards().get(i).isDefeated()) {
+                live.add(i);
+            }
+        }
+        return live.isEmpty() ? -1 : live.get(random.nextInt(live.size()));
+    }
+
+    /**
+     * Shows the current hands and deck window and checks the listeners.
+     */
+    private void bindAll(Game game) {
+        bindHand(hand1Views, game.getPlayer1().getCards());
+        bindHand(hand2Views, game.getPlayer2().getCards());
+
+        for (CardView cardView : deckViews) {
+            pool.release(cardView);
+        }
+        deckViews.clear();
+        List<Card> window = game.getDeck().getVisibleCards();
+        for (int i = 0; i < window.size(); i++) {
+            deckViews.add(pool.acquire(window.get(i), i));
+        }
+
+        checkViews(game);
+    }
+
+    private void bindHand(List<CardView> views, List<Card> cards) {
+        for (int i = 0; i < cards.size(); i++) {
+            if (i < views.size()) {
+                views.get(i).bind(cards.get(i), i);
+            } else {
+                views.add(pool.acquire(cards.get(i), i));
+            }
+        }
+        while (views.size() > cards.size()) {
+            pool.release(views.removeLast());
+        }
+    }
+
+    /**
+     * Repaints pending views and compares every seen card's listeners and every view's labels
+     * with what is on screen.
+     */
+    private void checkViews(Game game) {
+        RefreshScheduler.getInstance().flush();
+
+        Map<Card, Integer> shown = new IdentityHashMap<>();
+        for (List<CardView> views : List.of(hand1Views, hand2Views, deckViews)) {
+            for (CardView cardView : views) {
+                shown.merge(cardView.getCard(), 1, Integer::sum);
+                assertLabels(cardView);
+            }
+        }
+        seenCards.addAll(shown.keySet());
+
+        for (Card card : seenCards) {
+            int expected = shown.getOrDefault(card, 0);
+            for (Observable property : properties(card)) {
+                assertEquals(expected, listenerCount(property),
+                        () -> "Listeners on " + card + " in game status '" + game.getGameStatus() + "'");
+            }
+        }
+    }
+
+    private static void assertLabels(CardView cardView) {
+        Card card = cardView.getCard();
+        // Labels in view order: name, type, life, defence, attack, status
+        assertEquals("Life: " + card.getCurrentLife() + "/" + card.getMaxLife(), label(cardView, 2));
+        assertEquals("Defence: " + card.getCurrentDefence() + "/" + card.getMaxDefence(), label(cardView, 3));
+        assertEquals("Attack: " + card.getAttack(), label(cardView, 4));
+    }
+
+    private static String label(CardView cardView, int child) {
+        return ((Label) cardView.getChildren().get(child)).getText();
+    }
+
+    private static List<Observable> properties(Card card) {
+        return List.of(card.currentLifeProperty(), card.currentDefenceProperty(), card.attackProperty(),
+                card.attackMutedProperty(), card.defenceMutedProperty());
+    }
+
+    /**
+     * Counts the listeners of a property. JavaFX has no public count, so this reads the
+     * property's listener helper, which holds one listener or a generic list with sizes.
+     */
+    private static int listenerCount(Observable property) {
+        try {
+            Object helper = field(property.getClass(), "helper").get(property);
+            if (helper == null) {
+                return 0;
+            }
+            return switch (helper.getClass().getSimpleName()) {
+                case "SingleInvalidation", "SingleChange" -> 1;
+                default -> field(helper.getClass(), "invalidationSize").getInt(helper)
+                        + field(helper.getClass(), "changeSize").getInt(helper);
+            };
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError("Cannot count the listeners of " + property, e);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                // Look in the superclass
+            }
+        }
+        throw new NoSuchFieldException(name + " in " + type);
+    }
+
+    private static void onFxThread(Runnable action) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+        try {
+            done.get(60, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
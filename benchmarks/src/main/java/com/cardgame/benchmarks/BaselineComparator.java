@@ -0,0 +1,143 @@
+package com.cardgame.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH CSV result file against a stored baseline and flags regressions.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.csv> <current.csv> [threshold-percent]}
+ * <p>
+ * Throughput scores regress when they drop; time and allocation scores (including the
+ * {@code gc.alloc.rate} and {@code gc.alloc.rate.norm} rows from {@code -prof gc}) regress when they grow.
+ * A score only counts as regressed when it got worse by more than the threshold (default 10%) and
+ * its 99.9% confidence interval no longer overlaps the baseline's, so a change within the noise
+ * of either run is not reported. GC count and time rows are too noisy to compare and are skipped,
+ * and so are lines starting with #, which baselines use for notes on how they were recorded.
+ * Exits with status 1 if any benchmark regressed.
+ */
+public class BaselineComparator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.csv> <current.csv> [threshold-percent]");
+            System.exit(2);
+        }
+
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW      %-70s %12.3f %s%n", entry.getKey(), after.score, after.unit);
+                continue;
+            }
+
+            double change = before.score == 0 ? 0 : (after.score - before.score) / before.score * 100;
+            double worsening = after.higherIsBetter() ? -change : change;
+            boolean overlapping = Math.abs(after.score - before.score) <= before.error + after.error;
+            boolean regressed = worsening > threshold && !overlapping;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf("%-8s %-70s %12.3f +- %.3f -> %12.3f +- %.3f %s (%+.1f%%)%n",
+                    regressed ? "REGRESS" : "ok", entry.getKey(), before.score, before.error,
+                    after.score, after.error, after.unit, change);
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "% and beyond their error");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a JMH CSV result file, keyed by benchmark name plus parameter values.
+     */
+    private static Map<String, Result> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file).stream()
+                .filter(line -> !line.startsWith("#"))
+                .toList();
+        Map<String, Result> results = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return results;
+        }
+
+        List<String> header = parseLine(lines.get(0));
+        int benchmarkColumn = header.indexOf("Benchmark");
+        int modeColumn = header.indexOf("Mode");
+        int scoreColumn = header.indexOf("Score");
+        int errorColumn = header.indexOf("Score Error (99.9%)");
+        int unitColumn = header.indexOf("Unit");
+
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> fields = parseLine(line);
+            String benchmark = fields.get(benchmarkColumn);
+            if (benchmark.endsWith(":gc.count") || benchmark.endsWith(":gc.time")) {
+                continue;
+            }
+
+            StringBuilder key = new StringBuilder(benchmark);
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && i < fields.size() && !fields.get(i).isEmpty()) {
+                    key.append(' ').append(header.get(i).substring(7)).append('=').append(fields.get(i));
+                }
+            }
+
+            double score = number(fields.get(scoreColumn));
+            // A single sample has no error, which JMH writes as NaN
+            double error = errorColumn < 0 ? 0 : number(fields.get(errorColumn));
+            results.put(key.toString(), new Result(fields.get(modeColumn), score, Double.isNaN(error) ? 0 : error,
+                    fields.get(unitColumn)));
+        }
+        return results;
+    }
+
+    private static double number(String field) {
+        return Double.parseDouble(field.replace(',', '.'));
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields.
+     */
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Result(String mode, double score, double error, String unit) {
+        boolean higherIsBetter() {
+            // Profiler rows such as gc.alloc.rate share the primary mode, so check the unit too
+            return mode.equals("thrpt") && unit.startsWith("ops/");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.CombatLogFormatter;
+import com.cardgame.engine.GameListener;
+import com.cardgame.engine.PaperCard;
+import com.cardgame.engine.ScissorsCard;
+import com.cardgame.engine.StoneCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single attack resolution per card type.
+ * The target is restored before every attack so each call does the same amount of work.
+ * The formatted variant shows the extra cost of rendering the outcome as log text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+    private Card stone;
+    private Card paper;
+    private Card scissors;
+    private Card target;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final CombatLogFormatter formatter = new CombatLogFormatter();
+
+    @Setup
+    public void setUp() {
+        stone = new StoneCard();
+        paper = new PaperCard();
+        scissors = new ScissorsCard();
+        // Paper has the most life, so Scissors always gets all of its follow-up hits
+        target = new PaperCard();
+    }
+
+    @Benchmark
+    public int stoneAttack() {
+        restore(target);
+        stone.attack(target, random, GameListener.NONE);
+        return target.getCurrentLife();
+    }
+
+    @Benchmark
+    public int paperAttack() {
+        restore(target);
+        paper.attack(target, random, GameListener.NONE);
+        return target.getCurrentLife();
+    }
+
+    @Benchmark
+    public int scissorsAttack() {
+        restore(target);
+        scissors.attack(target, random, GameListener.NONE);
+        return target.getCurrentLife();
+    }
+
+    @Benchmark
+    public String scissorsAttackFormatted() {
+        restore(target);
+        scissors.attack(target, random, formatter);
+        return formatter.take();
+    }
+
+    private static void restore(Card card) {
+        card.setCurrentLife(card.getMaxLife());
+        card.setCurrentDefence(card.getMaxDefence());
+        card.setAttackMuted(false);
+        card.setDefenceMuted(false);
+    }
+}
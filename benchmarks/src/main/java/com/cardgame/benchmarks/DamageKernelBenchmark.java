@@ -0,0 +1,97 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.simulator.BatchEngine;
+import com.cardgame.simulator.DamageKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and the vector damage kernel, first on a batch of hits alone and
+ * then inside whole batch engine runs.
+ * <p>
+ * The hit batch mixes the situations of real games: full, partial and no defence, muted
+ * and unmuted targets, and damage that does or does not reach life. The kernels update
+ * the batch in place, so it is restored from a copy before every call; {@code restoreOnly}
+ * measures that copy on its own. The forks add the incubating Vector API module, without
+ * which the vector kernel is not available.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DamageKernelBenchmark {
+    // One hit per game, as in the first-hit batch of a step
+    private static final int GAMES = 4096;
+    private static final int HITS = GAMES;
+
+    @Param({"scalar", "vector"})
+    private String kernelName;
+
+    private DamageKernel kernel;
+    private int[] defence;
+    private int[] life;
+    private int[] flags;
+    private int[] damage;
+    private int[] startDefence;
+    private int[] startLife;
+
+    @Setup
+    public void setUp() {
+        kernel = kernelName.equals("vector") ? DamageKernel.vector() : DamageKernel.scalar();
+
+        SplittableRandom random = new SplittableRandom(42);
+        startDefence = new int[HITS];
+        startLife = new int[HITS];
+        flags = new int[HITS];
+        damage = new int[HITS];
+        for (int i = 0; i < HITS; i++) {
+            startDefence[i] = random.nextInt(4);
+            startLife[i] = 1 + random.nextInt(5);
+            flags[i] = random.nextInt(4) == 0 ? 2 : 0;
+            damage[i] = 1 + random.nextInt(5);
+        }
+        defence = startDefence.clone();
+        life = startLife.clone();
+    }
+
+    @Benchmark
+    public int restoreOnly() {
+        restore();
+        return life[HITS - 1];
+    }
+
+    @Benchmark
+    public int applyHits() {
+        restore();
+        kernel.apply(defence, life, flags, damage, HITS);
+        return life[HITS - 1];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int batchGames() {
+        BatchEngine engine = new BatchEngine(GAMES, "greedy", "greedy", 200, kernel);
+        engine.reset(new SplittableRandom(42));
+        engine.run();
+        return engine.getTurns(GAMES - 1);
+    }
+
+    private void restore() {
+        System.arraycopy(startDefence, 0, defence, 0, HITS);
+        System.arraycopy(startLife, 0, life, 0, HITS);
+    }
+}
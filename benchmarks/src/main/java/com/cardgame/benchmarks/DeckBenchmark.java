@@ -0,0 +1,95 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures emptying freshly shuffled decks of a given size, in nanoseconds per card.
+ * With constant-time draws the score is the same for every deck size; a linear-time draw
+ * grows with it.
+ * <p>
+ * Emptying a small deck takes far less than the millisecond below which per-invocation setup
+ * distorts the timing, so each iteration shuffles a pool of decks holding {@value #CARDS} cards
+ * together and then times emptying all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class DeckBenchmark {
+    // Divisible by every deck size
+    private static final int CARDS = 3_000_000;
+
+    @Param({"30", "10000", "1000000"})
+    private int deckSize;
+
+    private Deck[] decks;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        decks = new Deck[CARDS / deckSize];
+        int third = deckSize / 3;
+        for (int i = 0; i < decks.length; i++) {
+            decks[i] = new Deck(deckSize - 2 * third, third, third);
+        }
+        // Collect the garbage of shuffling now rather than during the timed shot
+        System.gc();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARDS)
+    public int drawCard() {
+        int drawn = 0;
+        for (Deck deck : decks) {
+            while (deck.drawCard() != null) {
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARDS)
+    public int drawCards() {
+        int drawn = 0;
+        for (Deck deck : decks) {
+            while (!deck.isEmpty()) {
+                drawn += deck.drawCards(5).size();
+            }
+        }
+        return drawn;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARDS)
+    public int removeVisibleCard() {
+        int removed = 0;
+        for (Deck deck : decks) {
+            while (!deck.isEmpty()) {
+                // Take from the middle of the visible window, as a chosen switch would
+                Card card = deck.getVisibleCards().get(deck.getVisibleCards().size() / 2);
+                deck.removeVisibleCard(card);
+                deck.refreshVisibleCards();
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Game;
+import com.cardgame.simulator.GreedyPolicy;
+import com.cardgame.simulator.MovePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole game, from dealing to the last attack, played by two greedy policies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FullGameBenchmark {
+    private static final int MAX_TURNS = 200;
+
+    private final MovePolicy policy = new GreedyPolicy();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Benchmark
+    public Game playToCompletion() {
+        Game game = new Game("Player 1", "Player 2", random.split());
+
+        for (int turn = 0; turn < MAX_TURNS && !game.isGameOver(); turn++) {
+            policy.playTurn(game, random);
+            if (!game.isGameOver()) {
+                game.endTurn();
+            }
+        }
+        return game;
+    }
+}
@@ -0,0 +1,77 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Game;
+import com.cardgame.engine.ai.MctsPlayer;
+import com.cardgame.engine.ai.Move;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how MCTS playout throughput scales with the number of search threads.
+ * Every move runs a fixed number of playouts, and the {@code playouts} counter reports
+ * playouts per second; linear scaling doubles it with every doubling of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MctsBenchmark {
+    private static final long PLAYOUTS_PER_MOVE = 32_768;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    private Game game;
+    private MctsPlayer player;
+
+    /**
+     * Counts the playouts of every measured move.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long playouts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            playouts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = new Game("Player 1", "Player 2", 42);
+        // The budget only guards against a stuck run; the playout limit ends every search
+        player = new MctsPlayer(threads, Duration.ofMinutes(1), PLAYOUTS_PER_MOVE, new SplittableRandom(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        player.close();
+    }
+
+    @Benchmark
+    public Move chooseOpeningMove(Counters counters) {
+        Move move = player.chooseMove(game);
+        counters.playouts += player.getLastPlayoutCount();
+        return move;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.Card;
+import com.cardgame.model.PaperCard;
+import com.cardgame.model.ScissorsCard;
+import com.cardgame.model.StoneCard;
+import javafx.beans.InvalidationListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the observable cards of the app model over a large deck, with and without a
+ * listener on every card. Divide the {@code gc.alloc.rate.norm} of {@code createCards} by the
+ * card count for the heap taken per card, engine card included. {@code attack} lets every card
+ * hit the next one through the model setters, defence first, the way the engine resolves a hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelCardBenchmark {
+    @Param({"100000"})
+    private int cardCount;
+
+    // true when every card is shown, with a listener on each property like a CardView adds
+    @Param({"false", "true"})
+    private boolean observed;
+
+    private final InvalidationListener listener = observable -> { };
+    private Card[] cards;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cards = createCards();
+    }
+
+    @Benchmark
+    public Card[] createCards() {
+        Card[] created = new Card[cardCount];
+        for (int i = 0; i < cardCount; i++) {
+            Card card = switch (i % 3) {
+                case 0 -> new StoneCard();
+                case 1 -> new PaperCard();
+                default -> new ScissorsCard();
+            };
+            if (observed) {
+                card.currentLifeProperty().addListener(listener);
+                card.currentDefenceProperty().addListener(listener);
+                card.attackProperty().addListener(listener);
+                card.attackMutedProperty().addListener(listener);
+                card.defenceMutedProperty().addListener(listener);
+            }
+            created[i] = card;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int attack() {
+        int defeated = 0;
+        for (int i = 0; i < cards.length; i++) {
+            Card attacker = cards[i];
+            Card target = cards[i + 1 == cards.length ? 0 : i + 1];
+            int damage = attacker.getAttack();
+
+            int defence = target.getCurrentDefence();
+            if (defence > 0) {
+                target.setCurrentDefence(Math.max(0, defence - damage));
+                damage -= defence - target.getCurrentDefence();
+            }
+            if (damage > 0) {
+                target.setCurrentLife(Math.max(0, target.getCurrentLife() - damage));
+            }
+
+            if (target.isDefeated()) {
+                defeated++;
+                target.setCurrentLife(target.getMaxLife());
+                target.setCurrentDefence(target.getMaxDefence());
+            }
+        }
+        return defeated;
+    }
+}
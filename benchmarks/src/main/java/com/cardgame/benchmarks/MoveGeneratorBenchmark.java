@@ -0,0 +1,47 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Game;
+import com.cardgame.engine.MoveGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures listing every legal move of the opening position into a reused buffer.
+ * Run with {@code -prof gc}; {@code gc.alloc.rate.norm} should stay at 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGeneratorBenchmark {
+    private Game game;
+    private long[] moves;
+
+    @Setup
+    public void setUp() {
+        game = new Game("Player 1", "Player 2", 42);
+        moves = new long[MoveGenerator.capacity(game)];
+    }
+
+    @Benchmark
+    public int generateAll() {
+        return MoveGenerator.generate(game, moves);
+    }
+
+    @Benchmark
+    public int generateAttacks() {
+        return MoveGenerator.attacks(game, moves, 0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving a game to a snapshot and restoring it, on a game a few turns in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    private Game game;
+    private ByteBuffer buffer;
+    private byte[] snapshot;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup
+    public void setUp() {
+        game = new Game("Player 1", "Player 2", 42);
+        game.performAttack(0, 0);
+        game.endTurn();
+        game.performAttack(1, 1);
+        game.endTurn();
+
+        buffer = ByteBuffer.allocate(GameSnapshot.encodedSize(game));
+        snapshot = GameSnapshot.encode(game);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIntoBuffer() {
+        buffer.clear();
+        GameSnapshot.encode(game, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return GameSnapshot.encode(game);
+    }
+
+    @Benchmark
+    public Game decode() {
+        return GameSnapshot.decode(ByteBuffer.wrap(snapshot), random);
+    }
+}
@@ -0,0 +1,62 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures switching two hand cards for two chosen visible deck cards.
+ * <p>
+ * A game allows one switch per turn, so every switch needs a fresh game. A switch takes far
+ * less than the millisecond below which per-invocation setup distorts the timing, so each
+ * iteration deals a pool of games first and then times one switch in every game of the pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class SwitchBenchmark {
+    private static final int GAMES = 50_000;
+    private static final List<Integer> PLAYER_CARD_INDICES = List.of(0, 3);
+
+    private final Game[] games = new Game[GAMES];
+    private final List<List<Card>> chosenDeckCards = new ArrayList<>(GAMES);
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        chosenDeckCards.clear();
+        for (int i = 0; i < GAMES; i++) {
+            games[i] = new Game("Player 1", "Player 2");
+            List<Card> visible = games[i].getDeck().getVisibleCards();
+            chosenDeckCards.add(List.of(visible.get(1), visible.get(4)));
+        }
+        // Collect the garbage of dealing now rather than during the timed shot
+        System.gc();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void switchCardsWithChosen(Blackhole blackhole) {
+        for (int i = 0; i < GAMES; i++) {
+            blackhole.consume(games[i].switchCardsWithChosen(PLAYER_CARD_INDICES, chosenDeckCards.get(i)));
+        }
+    }
+}
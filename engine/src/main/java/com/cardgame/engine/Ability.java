@@ -0,0 +1,51 @@
+package com.cardgame.engine;
+
+/**
+ * Special ability a card uses when it attacks. Each ability is carried out by one card class,
+ * so a card definition only names its ability and {@link CardDefinition#newCard()} picks the class.
+ */
+public enum Ability {
+    /**
+     * A plain hit, as done by {@link StoneCard}.
+     */
+    NONE("none"),
+
+    /**
+     * A hit that mutes the target's attack or defence, as done by {@link PaperCard}.
+     */
+    MUTE("mute"),
+
+    /**
+     * A full hit followed by up to two random follow-up hits, as done by {@link ScissorsCard}.
+     */
+    FOLLOW_UP_HITS("follow-up-hits");
+
+    private final String id;
+
+    Ability(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the id the card catalog uses for this ability.
+     * @return The id, such as "mute"
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Finds the ability with a catalog id.
+     * @param id The id
+     * @return The ability
+     * @throws IllegalArgumentException If no ability has the id
+     */
+    public static Ability of(String id) {
+        for (Ability ability : values()) {
+            if (ability.id.equals(id)) {
+                return ability;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card ability: " + id);
+    }
+}
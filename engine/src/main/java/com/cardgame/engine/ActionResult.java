@@ -0,0 +1,29 @@
+package com.cardgame.engine;
+
+/**
+ * Outcome of a game action. Anything other than {@link #OK} means the action was
+ * rejected and the game state is unchanged.
+ */
+public enum ActionResult {
+    OK,
+    GAME_OVER,
+    ALREADY_ATTACKED,
+    INVALID_ATTACKER_INDEX,
+    INVALID_TARGET_INDEX,
+    ATTACKER_DEFEATED,
+    TARGET_DEFEATED,
+    SWITCH_AFTER_ATTACK,
+    NOT_ENOUGH_CARDS,
+    INVALID_CARD_INDEX,
+    INVALID_PLAYER_CARD_INDEX,
+    CARD_DEFEATED,
+    SWITCH_COUNT_MISMATCH;
+
+    /**
+     * Checks if the action was carried out.
+     * @return true if the result is {@link #OK}
+     */
+    public boolean isOk() {
+        return this == OK;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cardgame.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for an attack the game carried out, from the first hit to the last follow-up.
+ */
+@Name("com.cardgame.Attack")
+@Label("Attack")
+@Category({"Card Game", "Engine"})
+@Description("An attack resolved by the game engine")
+final class AttackEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Attacker Type")
+    String attackerType;
+
+    @Label("Attacker Index")
+    int attackerIndex;
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Target Index")
+    int targetIndex;
+
+    @Label("Damage Dealt")
+    @Description("Defence and life the target lost")
+    int damage;
+
+    @Label("Target Defeated")
+    boolean targetDefeated;
+
+    @Label("Game Over")
+    boolean gameOver;
+}
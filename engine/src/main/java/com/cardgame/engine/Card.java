@@ -0,0 +1,194 @@
+package com.cardgame.engine;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Base class for all cards in the rules engine.
+ * The name, type and starting stats come from a shared {@link CardDefinition}; a card only
+ * keeps the state that changes during a game, in plain fields. Observers live in the UI layer.
+ */
+public abstract class Card {
+    private final CardDefinition definition;
+    private int currentLife;
+    private int currentDefence;
+    private int attack;
+    private boolean isMuted = false;
+    private boolean isAttackMuted = false;
+    private boolean isDefenceMuted = false;
+
+    protected Card(CardDefinition definition) {
+        this.definition = definition;
+        this.currentLife = definition.getLife();
+        this.currentDefence = definition.getDefence();
+        this.attack = definition.getAttack();
+    }
+
+    /**
+     * Performs an attack on the target card.
+     * @param target The card being attacked
+     * @param random The game's random source, used by card abilities
+     * @param events Receives the outcome of the attack
+     */
+    public void attack(Card target, RandomGenerator random, GameListener events) {
+        if (isAttackMuted()) {
+            events.attackBlocked(this);
+            return;
+        }
+
+        int attackValue = getAttack();
+        performAttack(target, attackValue, false, events);
+    }
+
+    /**
+     * Applies damage to the target card.
+     * @param target The card being attacked
+     * @param damage The amount of damage to apply
+     * @param followUp true if this is an extra hit of a damage-over-time attack
+     * @param events Receives the outcome of the hit
+     */
+    protected void performAttack(Card target, int damage, boolean followUp, GameListener events) {
+        events.attacked(this, target, damage, followUp);
+
+        // Apply damage to defence first
+        if (target.getCurrentDefence() > 0) {
+            int defenceBefore = target.getCurrentDefence();
+            target.setCurrentDefence(Math.max(0, target.getCurrentDefence() - damage));
+            int defenceDamage = defenceBefore - target.getCurrentDefence();
+            damage -= defenceDamage;
+
+            events.defenceDamaged(target, defenceDamage, target.getCurrentDefence());
+        }
+
+        // If there's remaining damage, apply to life
+        if (damage > 0 && !target.isDefenceMuted()) {
+            int lifeBefore = target.getCurrentLife();
+            target.setCurrentLife(Math.max(0, target.getCurrentLife() - damage));
+            int lifeDamage = lifeBefore - target.getCurrentLife();
+
+            events.lifeDamaged(target, lifeDamage, target.getCurrentLife());
+
+            if (target.getCurrentLife() <= 0) {
+                events.defeated(target);
+            }
+        }
+    }
+
+    /**
+     * Resets any temporary effects on the card at the end of a turn.
+     */
+    public void endTurn() {
+        // To be overridden by subclasses if needed
+    }
+
+    /**
+     * Gets the shared definition of this kind of card.
+     * @return The definition
+     */
+    public CardDefinition getDefinition() {
+        return definition;
+    }
+
+    // Getters and setters
+    public String getName() {
+        return definition.getName();
+    }
+
+    public String getType() {
+        return definition.getType();
+    }
+
+    public int getMaxLife() {
+        return definition.getLife();
+    }
+
+    public int getCurrentLife() {
+        return currentLife;
+    }
+
+    public void setCurrentLife(int life) {
+        this.currentLife = life;
+    }
+
+    public int getMaxDefence() {
+        return definition.getDefence();
+    }
+
+    public int getCurrentDefence() {
+        return currentDefence;
+    }
+
+    public void setCurrentDefence(int defence) {
+        this.currentDefence = defence;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public void setAttack(int attack) {
+        this.attack = attack;
+    }
+
+    public boolean isMuted() {
+        return isMuted;
+    }
+
+    public void setMuted(boolean muted) {
+        this.isMuted = muted;
+    }
+
+    public boolean isAttackMuted() {
+        return isAttackMuted;
+    }
+
+    public void setAttackMuted(boolean attackMuted) {
+        this.isAttackMuted = attackMuted;
+    }
+
+    public boolean isDefenceMuted() {
+        return isDefenceMuted;
+    }
+
+    public void setDefenceMuted(boolean defenceMuted) {
+        this.isDefenceMuted = defenceMuted;
+    }
+
+    public boolean isDefeated() {
+        return currentLife <= 0;
+    }
+
+    /**
+     * Lists the types of some cards for flight recorder events, such as "Stone,Paper".
+     */
+    static String typesOf(List<Card> cards) {
+        StringBuilder types = new StringBuilder();
+        for (Card card : cards) {
+            if (!types.isEmpty()) {
+                types.append(',');
+            }
+            types.append(card.getType());
+        }
+        return types.toString();
+    }
+
+    /**
+     * Lists the types of the cards at some positions for flight recorder events.
+     */
+    static String typesAt(List<Card> cards, List<Integer> indices) {
+        StringBuilder types = new StringBuilder();
+        for (int index : indices) {
+            if (!types.isEmpty()) {
+                types.append(',');
+            }
+            types.append(cards.get(index).getType());
+        }
+        return types.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " (" + getType() + ") - Life: " + getCurrentLife() + "/" + getMaxLife() +
+                ", Defence: " + getCurrentDefence() + "/" + getMaxDefence() + ", Attack: " + getAttack();
+    }
+}
@@ -0,0 +1,184 @@
+package com.cardgame.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The card definitions the game knows, read from a text file.
+ * <p>
+ * Every line of the file defines one card as comma-separated id, name, type, life, defence,
+ * attack, ability id and the number of copies in a deck; blank lines and lines starting with
+ * # are skipped. A new deck holds the given copies of every card. A definition's
+ * code is its position among the definitions, and journals and snapshots store cards by that
+ * code, so new cards must be added at the end of the file. The standard catalog is the
+ * {@code cards.csv} file shipped next to this class.
+ */
+public final class CardCatalog {
+    private static final String STANDARD_FILE = "cards.csv";
+    private static final int FIELDS = 8;
+    private static final int MAX_CARDS = 256;
+    private static final int MAX_STAT = 255;
+    // Journals and snapshots store the number of cards in a deck in one byte
+    private static final int MAX_DECK_SIZE = 255;
+
+    private final List<CardDefinition> definitions;
+    private final Map<String, CardDefinition> byId;
+    private final int deckSize;
+
+    private CardCatalog(List<CardDefinition> definitions, int deckSize) {
+        this.definitions = Collections.unmodifiableList(definitions);
+        this.byId = new HashMap<>();
+        for (CardDefinition definition : definitions) {
+            byId.put(definition.getId(), definition);
+        }
+        this.deckSize = deckSize;
+    }
+
+    private static final class Standard {
+        static final CardCatalog CATALOG = loadStandard();
+    }
+
+    /**
+     * Gets the catalog the game deals from, loading it on first use.
+     * @return The standard catalog
+     */
+    public static CardCatalog standard() {
+        return Standard.CATALOG;
+    }
+
+    private static CardCatalog loadStandard() {
+        try (InputStream in = CardCatalog.class.getResourceAsStream(STANDARD_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException("The card catalog " + STANDARD_FILE + " is missing");
+            }
+            return read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the card catalog", e);
+        }
+    }
+
+    /**
+     * Reads a catalog.
+     * @param reader The catalog text; it is not closed
+     * @return The catalog
+     * @throws IOException If the text cannot be read
+     * @throws IllegalArgumentException If a line is not a valid card definition, or the deck
+     *         would be too small to deal both hands or too large to journal
+     */
+    public static CardCatalog read(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        List<CardDefinition> definitions = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        String line;
+        int lineNumber = 0;
+        int deckSize = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",");
+            if (fields.length != FIELDS) {
+                throw new IllegalArgumentException("Line " + lineNumber + " of the card catalog has "
+                        + fields.length + " fields instead of " + FIELDS);
+            }
+            String id = fields[0].strip();
+            if (ids.putIfAbsent(id, lineNumber) != null) {
+                throw new IllegalArgumentException("Line " + lineNumber + " of the card catalog repeats the card " + id);
+            }
+            if (definitions.size() == MAX_CARDS) {
+                throw new IllegalArgumentException("The card catalog has more than " + MAX_CARDS + " cards");
+            }
+            Ability ability = ability(fields[6], lineNumber);
+            // Follow-up hits deal random damage from 1 to the attack
+            int attack = stat(fields[5], ability == Ability.FOLLOW_UP_HITS ? 1 : 0, lineNumber);
+            int copies = stat(fields[7], 0, lineNumber);
+            definitions.add(new CardDefinition(definitions.size(), id, fields[1].strip(), fields[2].strip(),
+                    stat(fields[3], 1, lineNumber), stat(fields[4], 0, lineNumber), attack, ability, copies));
+            deckSize += copies;
+        }
+
+        if (deckSize < 2 * Game.INITIAL_HAND_SIZE || deckSize > MAX_DECK_SIZE) {
+            throw new IllegalArgumentException("The card catalog deals " + deckSize + " cards, but a deck must hold "
+                    + 2 * Game.INITIAL_HAND_SIZE + " to " + MAX_DECK_SIZE);
+        }
+        return new CardCatalog(definitions, deckSize);
+    }
+
+    private static Ability ability(String field, int lineNumber) {
+        try {
+            return Ability.of(field.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + " of the card catalog has the unknown ability " + field.strip());
+        }
+    }
+
+    private static int stat(String field, int min, int lineNumber) {
+        int value;
+        try {
+            value = Integer.parseInt(field.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + " of the card catalog has a stat that is not a number: " + field.strip());
+        }
+        if (value < min || value > MAX_STAT) {
+            throw new IllegalArgumentException("Line " + lineNumber + " of the card catalog has the stat " + value
+                    + " outside " + min + " to " + MAX_STAT);
+        }
+        return value;
+    }
+
+    /**
+     * Gets a definition by id.
+     * @param id The id, such as "stone"
+     * @return The definition
+     * @throws IllegalArgumentException If the catalog has no such card
+     */
+    public CardDefinition get(String id) {
+        CardDefinition definition = byId.get(id);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown card: " + id);
+        }
+        return definition;
+    }
+
+    /**
+     * Gets a definition by code.
+     * @param code The code, as stored in journals and snapshots
+     * @return The definition
+     * @throws IllegalArgumentException If the catalog has no such card
+     */
+    public CardDefinition get(int code) {
+        if (code < 0 || code >= definitions.size()) {
+            throw new IllegalArgumentException("Unknown card code: " + code);
+        }
+        return definitions.get(code);
+    }
+
+    /**
+     * Gets the number of cards in a new deck.
+     * @return The copies of all definitions together
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets all definitions.
+     * @return The definitions in code order
+     */
+    public List<CardDefinition> getDefinitions() {
+        return definitions;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cardgame.engine;
+
+/**
+ * Immutable template of a card from the {@link CardCatalog}: its name, type, starting stats,
+ * ability and how many copies a deck holds. Every card of a kind shares one definition, so a
+ * card itself only holds the values that change during a game.
+ */
+public final class CardDefinition {
+    private final int code;
+    private final String id;
+    private final String name;
+    private final String type;
+    private final int life;
+    private final int defence;
+    private final int attack;
+    private final Ability ability;
+    private final int copies;
+
+    CardDefinition(int code, String id, String name, String type, int life, int defence, int attack, Ability ability,
+                   int copies) {
+        this.code = code;
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.life = life;
+        this.defence = defence;
+        this.attack = attack;
+        this.ability = ability;
+        this.copies = copies;
+    }
+
+    /**
+     * Creates a fresh card of this definition, at full life and defence.
+     * @return The new card
+     */
+    public Card newCard() {
+        return switch (ability) {
+            case NONE -> new StoneCard(this);
+            case MUTE -> new PaperCard(this);
+            case FOLLOW_UP_HITS -> new ScissorsCard(this);
+        };
+    }
+
+    /**
+     * Gets the position of the definition in its catalog, which journals and snapshots store for the card.
+     * @return The code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the id the catalog knows the card by, such as "stone".
+     * @return The id
+     */
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getLife() {
+        return life;
+    }
+
+    public int getDefence() {
+        return defence;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public Ability getAbility() {
+        return ability;
+    }
+
+    /**
+     * Gets how many cards of this definition a new deck holds.
+     * @return The number of copies, 0 for cards that are never dealt
+     */
+    public int getCopies() {
+        return copies;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + type + ") - Life: " + life + ", Defence: " + defence + ", Attack: " + attack
+                + ", Ability: " + ability.getId();
+    }
+}
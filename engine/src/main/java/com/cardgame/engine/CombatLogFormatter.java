@@ -0,0 +1,90 @@
+package com.cardgame.engine;
+
+/**
+ * Renders game events as the human-readable game log text.
+ * Text accumulates until {@link #take()} is called, typically once per action.
+ */
+public class CombatLogFormatter implements GameListener {
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Returns the text rendered since the last call and starts over.
+     * @return The rendered text
+     */
+    public String take() {
+        String result = text.toString();
+        text.setLength(0);
+        return result;
+    }
+
+    @Override
+    public void attacked(Card attacker, Card target, int damage, boolean followUp) {
+        if (followUp) {
+            text.append("\n\nContinuing attack: ");
+        }
+        text.append(attacker.getName()).append(" attacks ").append(target.getName())
+                .append(" for ").append(damage).append(" damage!");
+    }
+
+    @Override
+    public void attackBlocked(Card attacker) {
+        text.append(attacker.getName()).append(" is muted and cannot attack!");
+    }
+
+    @Override
+    public void defenceDamaged(Card target, int amount, int remaining) {
+        text.append("\n").append(target.getName()).append("'s defence reduced by ").append(amount)
+                .append(" (").append(remaining).append(" remaining)");
+    }
+
+    @Override
+    public void lifeDamaged(Card target, int amount, int remaining) {
+        text.append("\n").append(target.getName()).append("'s life reduced by ").append(amount)
+                .append(" (").append(remaining).append(" remaining)");
+    }
+
+    @Override
+    public void defeated(Card target) {
+        text.append("\n").append(target.getName()).append(" has been defeated!");
+    }
+
+    @Override
+    public void muteApplied(Card source, Card target, boolean attackMuted) {
+        text.append("\n").append(source.getName()).append(" muted ").append(target.getName())
+                .append(attackMuted ? "'s attack ability!" : "'s defense ability!");
+    }
+
+    @Override
+    public void switchStarted(boolean chosen) {
+        text.append("Switched cards:\n");
+    }
+
+    @Override
+    public void cardReplaced(Player player, int index, Card oldCard, Card newCard) {
+        text.append("- Replaced ").append(oldCard.getName()).append(" with ").append(newCard.getName()).append("\n");
+    }
+
+    @Override
+    public void deckExhausted() {
+        text.append("- No more cards in the deck!\n");
+    }
+
+    @Override
+    public void actionRejected(ActionResult result, int detail) {
+        text.append(switch (result) {
+            case OK -> "";
+            case GAME_OVER -> "Game is already over!";
+            case ALREADY_ATTACKED -> "You have already attacked this turn!";
+            case INVALID_ATTACKER_INDEX -> "Invalid attacking card index: " + detail;
+            case INVALID_TARGET_INDEX -> "Invalid target card index: " + detail;
+            case ATTACKER_DEFEATED -> "Cannot attack with a defeated card!";
+            case TARGET_DEFEATED -> "Target card is already defeated!";
+            case SWITCH_AFTER_ATTACK -> "You cannot switch cards after attacking!";
+            case NOT_ENOUGH_CARDS -> "Not enough cards in the deck! Only " + detail + " cards available.";
+            case INVALID_CARD_INDEX -> "Invalid card index: " + detail;
+            case INVALID_PLAYER_CARD_INDEX -> "Invalid player card index: " + detail;
+            case CARD_DEFEATED -> "Cannot switch a defeated card at index: " + detail;
+            case SWITCH_COUNT_MISMATCH -> "Mismatch between number of player cards and deck cards!";
+        });
+    }
+}
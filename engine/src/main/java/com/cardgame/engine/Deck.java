@@ -0,0 +1,214 @@
+package com.cardgame.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the deck of cards in the game.
+ * The top of the deck is stored at the end of the list, so drawing never shifts
+ * the remaining cards and removing a visible card shifts at most the visible window.
+ */
+public class Deck {
+    private final ArrayList<Card> cards = new ArrayList<>();
+    private final List<Card> visibleCards = new ArrayList<>();
+    private final List<Card> visibleCardsView = Collections.unmodifiableList(visibleCards);
+    private static final int VISIBLE_CARDS_COUNT = 5;
+    private final RandomGenerator random;
+
+    /**
+     * Creates a new deck with the specified number of each card type.
+     * @param stoneCount Number of stone cards
+     * @param paperCount Number of paper cards
+     * @param scissorsCount Number of scissors cards
+     */
+    public Deck(int stoneCount, int paperCount, int scissorsCount) {
+        this(stoneCount, paperCount, scissorsCount, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new deck with the specified number of each card type, shuffled with the given random source.
+     * @param stoneCount Number of stone cards
+     * @param paperCount Number of paper cards
+     * @param scissorsCount Number of scissors cards
+     * @param random Random source used for shuffling
+     */
+    public Deck(int stoneCount, int paperCount, int scissorsCount, RandomGenerator random) {
+        this.random = random;
+        cards.ensureCapacity(stoneCount + paperCount + scissorsCount);
+
+        CardCatalog catalog = CardCatalog.standard();
+        addCards(catalog.get("stone"), stoneCount);
+        addCards(catalog.get("paper"), paperCount);
+        addCards(catalog.get("scissors"), scissorsCount);
+
+        // Shuffle the deck
+        shuffle();
+
+        // Initialize visible cards
+        refreshVisibleCards();
+    }
+
+    /**
+     * Creates a new deck with the copies of every card of a catalog, shuffled with the given random source.
+     * @param catalog The catalog, whose definitions are added in code order before shuffling
+     * @param random Random source used for shuffling
+     */
+    public Deck(CardCatalog catalog, RandomGenerator random) {
+        this.random = random;
+        cards.ensureCapacity(catalog.getDeckSize());
+        for (CardDefinition definition : catalog.getDefinitions()) {
+            addCards(definition, definition.getCopies());
+        }
+        shuffle();
+        refreshVisibleCards();
+    }
+
+    /**
+     * Creates a deck holding the given cards in the given order, without shuffling.
+     * @param cards The cards, top card last
+     * @param random Random source used if the deck is shuffled later
+     */
+    public Deck(List<Card> cards, RandomGenerator random) {
+        this.random = random;
+        this.cards.addAll(cards);
+        refreshVisibleCards();
+    }
+
+    private void addCards(CardDefinition definition, int count) {
+        for (int i = 0; i < count; i++) {
+            cards.add(definition.newCard());
+        }
+    }
+
+    /**
+     * Shuffles the deck.
+     */
+    public void shuffle() {
+        Collections.shuffle(cards, random);
+    }
+
+    /**
+     * Draws a specified number of cards from the deck.
+     * @param count Number of cards to draw
+     * @return List of drawn cards
+     */
+    public List<Card> drawCards(int count) {
+        DeckDrawEvent event = new DeckDrawEvent();
+        event.begin();
+        List<Card> drawnCards = new ArrayList<>();
+
+        for (int i = 0; i < count && !cards.isEmpty(); i++) {
+            drawnCards.add(cards.remove(cards.size() - 1));
+        }
+
+        // Refresh visible cards after drawing
+        refreshVisibleCards();
+
+        if (event.shouldCommit()) {
+            event.requested = count;
+            event.drawnTypes = Card.typesOf(drawnCards);
+            event.remaining = cards.size();
+            event.commit();
+        }
+        return drawnCards;
+    }
+
+    /**
+     * Draws a single card from the deck.
+     * @return The drawn card, or null if the deck is empty
+     */
+    public Card drawCard() {
+        if (cards.isEmpty()) {
+            return null;
+        }
+
+        DeckDrawEvent event = new DeckDrawEvent();
+        event.begin();
+        Card card = cards.remove(cards.size() - 1);
+        refreshVisibleCards();
+
+        if (event.shouldCommit()) {
+            event.requested = 1;
+            event.drawnTypes = card.getType();
+            event.remaining = cards.size();
+            event.commit();
+        }
+        return card;
+    }
+
+    /**
+     * Removes a specific card from the visible cards and from the deck.
+     * @param cardToRemove The card to remove
+     * @return true if the card was found and removed, false otherwise
+     */
+    public boolean removeVisibleCard(Card cardToRemove) {
+        boolean removed = visibleCards.remove(cardToRemove);
+
+        // Also remove from the main deck if it's there, looking in the visible window at the top first
+        int windowStart = Math.max(0, cards.size() - VISIBLE_CARDS_COUNT);
+        for (int i = cards.size() - 1; i >= windowStart; i--) {
+            if (cards.get(i) == cardToRemove) {
+                cards.remove(i);
+                return removed;
+            }
+        }
+        cards.remove(cardToRemove);
+
+        return removed;
+    }
+
+    /**
+     * Forcibly refreshes the visible cards from the top of the deck.
+     */
+    public void refreshVisibleCards() {
+        visibleCards.clear();
+
+        for (int i = cards.size() - 1; i >= 0 && visibleCards.size() < VISIBLE_CARDS_COUNT; i--) {
+            visibleCards.add(cards.get(i));
+        }
+    }
+
+    /**
+     * Gets the current visible cards from the top of the deck.
+     * @return Read-only list of visible cards
+     */
+    public List<Card> getVisibleCards() {
+        return visibleCardsView;
+    }
+
+    /**
+     * Gets the cards below the visible window, bottom card first. Players must not learn
+     * their order; computer players shuffle them before looking ahead.
+     * @return Read-only list of the hidden cards
+     */
+    public List<Card> getHiddenCards() {
+        return Collections.unmodifiableList(cards.subList(0, Math.max(0, cards.size() - VISIBLE_CARDS_COUNT)));
+    }
+
+    /**
+     * Gets every card of the deck, bottom card first, for {@link GameSnapshot}s.
+     */
+    List<Card> cards() {
+        return cards;
+    }
+
+    /**
+     * Gets the number of cards remaining in the deck.
+     * @return Number of remaining cards
+     */
+    public int getRemainingCards() {
+        return cards.size();
+    }
+
+    /**
+     * Checks if the deck is empty.
+     * @return true if the deck is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+}
+
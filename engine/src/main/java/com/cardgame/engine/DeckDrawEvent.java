@@ -0,0 +1,23 @@
+package com.cardgame.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for cards drawn from the top of the deck.
+ */
+@Name("com.cardgame.DeckDraw")
+@Label("Deck Draw")
+@Category({"Card Game", "Engine"})
+final class DeckDrawEvent extends Event {
+    @Label("Cards Requested")
+    int requested;
+
+    @Label("Drawn Types")
+    String drawnTypes;
+
+    @Label("Cards Left In Deck")
+    int remaining;
+}
@@ -0,0 +1,25 @@
+package com.cardgame.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for the end of a turn.
+ */
+@Name("com.cardgame.EndTurn")
+@Label("End Turn")
+@Category({"Card Game", "Engine"})
+final class EndTurnEvent extends Event {
+    @Label("Player")
+    @Description("The player whose turn ended")
+    String player;
+
+    @Label("Attacked")
+    boolean attacked;
+
+    @Label("Switched")
+    boolean switched;
+}
@@ -0,0 +1,431 @@
+package com.cardgame.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Manages the game state and rules.
+ */
+public class Game {
+    private final Player player1;
+    private final Player player2;
+    private final Deck deck;
+    private final RandomGenerator random;
+    private GameListener listener = GameListener.NONE;
+    private int currentPlayerIndex = 0;
+    private String gameStatus = "Game started";
+    private boolean gameOver = false;
+
+    public static final int INITIAL_HAND_SIZE = 5;
+
+    /**
+     * Creates a new game with two players and an unpredictable seed.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     */
+    public Game(String player1Name, String player2Name) {
+        this(player1Name, player2Name, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new game with two players. Games created with the same seed play out identically
+     * when given the same actions.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param seed Seed for the game's random source
+     */
+    public Game(String player1Name, String player2Name, long seed) {
+        this(player1Name, player2Name, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a new game with two players that draws all randomness from the given source.
+     * Parallel simulations should pass a {@link SplittableRandom#split() split} of a shared root
+     * so every game gets an independent, reproducible stream without contention.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param random The game's random source; it must not be shared with another game
+     */
+    public Game(String player1Name, String player2Name, SplittableRandom random) {
+        this(player1Name, player2Name, CardCatalog.standard(), random);
+    }
+
+    /**
+     * Creates a new game with two players that deals from another catalog than the standard one,
+     * for trying out card definitions in simulations.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param catalog The catalog whose cards make up the deck
+     * @param random The game's random source; it must not be shared with another game
+     */
+    public Game(String player1Name, String player2Name, CardCatalog catalog, SplittableRandom random) {
+        // Create and shuffle the deck
+        this(player1Name, player2Name, new Deck(catalog, random), random);
+    }
+
+    /**
+     * Creates a new game from a known deal instead of a shuffle, for replaying recorded games.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param deal Every card of the deck in dealing order, top card last; the hands are dealt from the top
+     * @param random Random source for the card abilities
+     */
+    public Game(String player1Name, String player2Name, List<Card> deal, RandomGenerator random) {
+        this(player1Name, player2Name, new Deck(deal, random), random);
+    }
+
+    private Game(String player1Name, String player2Name, Deck deck, RandomGenerator random) {
+        this(new Player(player1Name), new Player(player2Name), deck, random);
+
+        // Deal initial cards to players
+        dealInitialCards();
+    }
+
+    /**
+     * Creates a game from existing players and deck without dealing, for restoring {@link GameSnapshot}s.
+     */
+    Game(Player player1, Player player2, Deck deck, RandomGenerator random) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.random = random;
+        this.deck = deck;
+    }
+
+    /**
+     * Restores the turn state of a game built from a snapshot.
+     */
+    void restoreTurn(int currentPlayerIndex, boolean gameOver, String gameStatus) {
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.gameOver = gameOver;
+        this.gameStatus = gameStatus;
+    }
+
+    /**
+     * Deals the initial cards to both players.
+     */
+    private void dealInitialCards() {
+        // Deal cards to player 1
+        List<Card> player1Cards = deck.drawCards(INITIAL_HAND_SIZE);
+        for (Card card : player1Cards) {
+            player1.addCard(card);
+        }
+
+        // Deal cards to player 2
+        List<Card> player2Cards = deck.drawCards(INITIAL_HAND_SIZE);
+        for (Card card : player2Cards) {
+            player2.addCard(card);
+        }
+    }
+
+    /**
+     * Performs an attack from one player's card to an opponent's card.
+     * The outcome of the attack is reported to the game's listener.
+     * @param attackingCardIndex Index of the attacking card
+     * @param targetCardIndex Index of the target card
+     * @return {@link ActionResult#OK} if the attack was carried out, otherwise why it was rejected
+     */
+    public ActionResult performAttack(int attackingCardIndex, int targetCardIndex) {
+        if (gameOver) {
+            return reject(ActionResult.GAME_OVER, -1);
+        }
+
+        Player currentPlayer = getCurrentPlayer();
+        Player opponent = getOpponent();
+
+        // Check if player has already attacked this turn
+        if (currentPlayer.hasAttackedThisTurn()) {
+            return reject(ActionResult.ALREADY_ATTACKED, -1);
+        }
+
+        // Validate card indices
+        if (attackingCardIndex < 0 || attackingCardIndex >= currentPlayer.getCards().size()) {
+            return reject(ActionResult.INVALID_ATTACKER_INDEX, attackingCardIndex);
+        }
+
+        if (targetCardIndex < 0 || targetCardIndex >= opponent.getCards().size()) {
+            return reject(ActionResult.INVALID_TARGET_INDEX, targetCardIndex);
+        }
+
+        // Get the cards
+        Card attackingCard = currentPlayer.getCards().get(attackingCardIndex);
+        Card targetCard = opponent.getCards().get(targetCardIndex);
+
+        // Check if attacking card is defeated
+        if (attackingCard.isDefeated()) {
+            return reject(ActionResult.ATTACKER_DEFEATED, attackingCardIndex);
+        }
+
+        // Check if target card is already defeated
+        if (targetCard.isDefeated()) {
+            return reject(ActionResult.TARGET_DEFEATED, targetCardIndex);
+        }
+
+        // Perform the attack
+        AttackEvent event = new AttackEvent();
+        event.begin();
+        int targetHealth = targetCard.getCurrentDefence() + targetCard.getCurrentLife();
+        listener.attackStarted(attackingCardIndex, targetCardIndex);
+        attackingCard.attack(targetCard, random, listener);
+        currentPlayer.setHasAttackedThisTurn(true);
+
+        // Check if the game is over
+        if (opponent.hasLost()) {
+            gameOver = true;
+            gameStatus = currentPlayer.getName() + " has won the game!";
+        }
+
+        if (event.shouldCommit()) {
+            event.player = currentPlayer.getName();
+            event.attackerType = attackingCard.getType();
+            event.attackerIndex = attackingCardIndex;
+            event.targetType = targetCard.getType();
+            event.targetIndex = targetCardIndex;
+            event.damage = targetHealth - targetCard.getCurrentDefence() - targetCard.getCurrentLife();
+            event.targetDefeated = targetCard.isDefeated();
+            event.gameOver = gameOver;
+            event.commit();
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Switches cards from the player's hand with cards from the deck.
+     * @param cardIndices Indices of the cards to switch
+     * @return {@link ActionResult#OK} if the switch was carried out, otherwise why it was rejected
+     */
+    public ActionResult switchCards(List<Integer> cardIndices) {
+        if (gameOver) {
+            return reject(ActionResult.GAME_OVER, -1);
+        }
+
+        Player currentPlayer = getCurrentPlayer();
+
+        // Check if player has already attacked this turn
+        if (currentPlayer.hasAttackedThisTurn()) {
+            return reject(ActionResult.SWITCH_AFTER_ATTACK, -1);
+        }
+
+        // Check if there are enough cards in the deck
+        if (deck.getRemainingCards() < cardIndices.size()) {
+            return reject(ActionResult.NOT_ENOUGH_CARDS, deck.getRemainingCards());
+        }
+
+        // Sort indices in descending order to avoid index shifting issues
+        List<Integer> sortedIndices = new ArrayList<>(cardIndices);
+        Collections.sort(sortedIndices);
+        Collections.reverse(sortedIndices);
+
+        // Validate card indices
+        for (int index : sortedIndices) {
+            if (index < 0 || index >= currentPlayer.getCards().size()) {
+                return reject(ActionResult.INVALID_CARD_INDEX, index);
+            }
+
+            // Check if the card at this index is defeated
+            if (currentPlayer.getCards().get(index).isDefeated()) {
+                return reject(ActionResult.CARD_DEFEATED, index);
+            }
+        }
+
+        // Switch the cards
+        SwitchEvent event = new SwitchEvent();
+        event.begin();
+        String removedTypes = event.isEnabled() ? Card.typesAt(currentPlayer.getCards(), sortedIndices) : null;
+        listener.switchStarted(false);
+
+        int switched = 0;
+        for (int index : sortedIndices) {
+            Card newCard = deck.drawCard();
+            if (newCard == null) {
+                listener.deckExhausted();
+                break;
+            }
+
+            Card oldCard = currentPlayer.replaceCard(index, newCard);
+            listener.cardReplaced(currentPlayer, index, oldCard, newCard);
+            switched++;
+        }
+        currentPlayer.setHasSwitchedThisTurn(true);
+
+        if (event.shouldCommit()) {
+            commitSwitch(event, currentPlayer, false, removedTypes, sortedIndices.subList(0, switched));
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Switches cards from the player's hand with specific cards from the deck.
+     * @param playerCardIndices Indices of the player's cards to switch
+     * @param chosenDeckCards The specific deck cards to use as replacements
+     * @return {@link ActionResult#OK} if the switch was carried out, otherwise why it was rejected
+     */
+    public ActionResult switchCardsWithChosen(List<Integer> playerCardIndices, List<Card> chosenDeckCards) {
+        if (gameOver) {
+            return reject(ActionResult.GAME_OVER, -1);
+        }
+
+        Player currentPlayer = getCurrentPlayer();
+
+        // Check if player has already attacked this turn
+        if (currentPlayer.hasAttackedThisTurn()) {
+            return reject(ActionResult.SWITCH_AFTER_ATTACK, -1);
+        }
+
+        // Validate indices and counts
+        if (playerCardIndices.size() != chosenDeckCards.size()) {
+            return reject(ActionResult.SWITCH_COUNT_MISMATCH, -1);
+        }
+
+        // Validate player card indices
+        for (int index : playerCardIndices) {
+            if (index < 0 || index >= currentPlayer.getCards().size()) {
+                return reject(ActionResult.INVALID_PLAYER_CARD_INDEX, index);
+            }
+
+            // Check if the card at this index is defeated
+            if (currentPlayer.getCards().get(index).isDefeated()) {
+                return reject(ActionResult.CARD_DEFEATED, index);
+            }
+        }
+
+        // Switch the cards
+        SwitchEvent event = new SwitchEvent();
+        event.begin();
+        String removedTypes = event.isEnabled() ? Card.typesAt(currentPlayer.getCards(), playerCardIndices) : null;
+        listener.switchStarted(true);
+
+        // Create a copy of chosenDeckCards to avoid ConcurrentModificationException
+        List<Card> deckCardsCopy = new ArrayList<>(chosenDeckCards);
+
+        // Sort indices in descending order to avoid index shifting issues
+        List<Integer> sortedIndices = new ArrayList<>(playerCardIndices);
+        Collections.sort(sortedIndices);
+        Collections.reverse(sortedIndices);
+
+        for (int i = 0; i < sortedIndices.size(); i++) {
+            int playerIndex = sortedIndices.get(i);
+            Card deckCard = deckCardsCopy.get(i);
+
+            // Remove the card from the deck's visible cards
+            deck.removeVisibleCard(deckCard);
+
+            // Replace player's card
+            Card oldCard = currentPlayer.replaceCard(playerIndex, deckCard);
+            listener.cardReplaced(currentPlayer, playerIndex, oldCard, deckCard);
+        }
+
+        // Refresh the visible cards in the deck
+        deck.refreshVisibleCards();
+        currentPlayer.setHasSwitchedThisTurn(true);
+
+        if (event.shouldCommit()) {
+            commitSwitch(event, currentPlayer, true, removedTypes, playerCardIndices);
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Fills in and commits the flight recorder event of a switch.
+     */
+    private void commitSwitch(SwitchEvent event, Player player, boolean chosen, String removedTypes,
+                              List<Integer> indices) {
+        event.player = player.getName();
+        event.chosen = chosen;
+        event.cards = indices.size();
+        event.removedTypes = removedTypes;
+        event.addedTypes = Card.typesAt(player.getCards(), indices);
+        event.remaining = deck.getRemainingCards();
+        event.commit();
+    }
+
+    /**
+     * Reports a rejected action to the listener.
+     * @return The given result
+     */
+    private ActionResult reject(ActionResult result, int detail) {
+        listener.actionRejected(result, detail);
+        return result;
+    }
+
+    /**
+     * Ends the current player's turn and switches to the other player.
+     */
+    public void endTurn() {
+        EndTurnEvent event = new EndTurnEvent();
+        event.begin();
+        Player endingPlayer = getCurrentPlayer();
+
+        // Switch to the other player
+        currentPlayerIndex = (currentPlayerIndex + 1) % 2;
+
+        // Reset the new current player's state for the new turn
+        getCurrentPlayer().startNewTurn();
+
+        gameStatus = getCurrentPlayer().getName() + "'s turn";
+        listener.turnEnded();
+
+        if (event.shouldCommit()) {
+            event.player = endingPlayer.getName();
+            event.attacked = endingPlayer.hasAttackedThisTurn();
+            event.switched = endingPlayer.hasSwitchedThisTurn();
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the current player.
+     * @return The current player
+     */
+    public Player getCurrentPlayer() {
+        return currentPlayerIndex == 0 ? player1 : player2;
+    }
+
+    /**
+     * Gets the opponent of the current player.
+     * @return The opponent player
+     */
+    public Player getOpponent() {
+        return currentPlayerIndex == 0 ? player2 : player1;
+    }
+
+    // Getters
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    public Player getPlayer2() {
+        return player2;
+    }
+
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Sets the listener that receives the outcome events of every action.
+     * @param listener The listener, or {@link GameListener#NONE} to ignore events
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public GameListener getListener() {
+        return listener;
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public String getGameStatus() {
+        return gameStatus;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
+
@@ -0,0 +1,124 @@
+package com.cardgame.engine;
+
+/**
+ * Receives typed outcome events while the engine resolves actions.
+ * Events carry only references and numbers; turning them into text is left to
+ * consumers such as {@link CombatLogFormatter}, so headless runs pay nothing for it.
+ * All methods default to doing nothing.
+ */
+public interface GameListener {
+
+    /**
+     * Listener that ignores every event.
+     */
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * Combines two listeners, such as a combat log and a journal recorder.
+     * @param first Receives every event first
+     * @param second Receives every event after the first listener
+     * @return A listener that passes every event on to both
+     */
+    static GameListener both(GameListener first, GameListener second) {
+        return new ListenerPair(first, second);
+    }
+
+    /**
+     * An attack passed the rule checks and is about to be resolved.
+     * @param attackerIndex Hand index of the current player's attacking card
+     * @param targetIndex Hand index of the opponent's target card
+     */
+    default void attackStarted(int attackerIndex, int targetIndex) {
+    }
+
+    /**
+     * An attack hit is about to be applied.
+     * @param attacker The attacking card
+     * @param target The card being attacked
+     * @param damage The damage dealt by this hit
+     * @param followUp true for the extra hits of a damage-over-time attack
+     */
+    default void attacked(Card attacker, Card target, int damage, boolean followUp) {
+    }
+
+    /**
+     * A muted card tried to attack and did nothing.
+     * @param attacker The muted card
+     */
+    default void attackBlocked(Card attacker) {
+    }
+
+    /**
+     * The target lost defence.
+     * @param target The damaged card
+     * @param amount Defence lost
+     * @param remaining Defence left
+     */
+    default void defenceDamaged(Card target, int amount, int remaining) {
+    }
+
+    /**
+     * The target lost life.
+     * @param target The damaged card
+     * @param amount Life lost
+     * @param remaining Life left
+     */
+    default void lifeDamaged(Card target, int amount, int remaining) {
+    }
+
+    /**
+     * The target's life reached zero.
+     * @param target The defeated card
+     */
+    default void defeated(Card target) {
+    }
+
+    /**
+     * A card ability muted part of the target.
+     * @param source The card applying the mute
+     * @param target The muted card
+     * @param attackMuted true if the attack was muted, false if the defence was muted
+     */
+    default void muteApplied(Card source, Card target, boolean attackMuted) {
+    }
+
+    /**
+     * A switch of hand cards with deck cards is starting.
+     * @param chosen true if the player picked the replacements among the visible deck cards,
+     *               false if they are drawn from the top of the deck
+     */
+    default void switchStarted(boolean chosen) {
+    }
+
+    /**
+     * A hand card was replaced during a switch.
+     * @param player The player whose hand changed
+     * @param index The hand slot
+     * @param oldCard The card that left the hand
+     * @param newCard The card that entered the hand
+     */
+    default void cardReplaced(Player player, int index, Card oldCard, Card newCard) {
+    }
+
+    /**
+     * The deck ran out of cards during a switch.
+     */
+    default void deckExhausted() {
+    }
+
+    /**
+     * The current player's turn ended and the other player's turn began.
+     */
+    default void turnEnded() {
+    }
+
+    /**
+     * An action was rejected without changing the game.
+     * @param result Why the action was rejected
+     * @param detail The offending card index, or the number of cards left in the deck
+     *               for {@link ActionResult#NOT_ENOUGH_CARDS}; -1 if not applicable
+     */
+    default void actionRejected(ActionResult result, int detail) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.cardgame.engine;
+
+/**
+ * Listener that passes every event on to two others, in order.
+ */
+final class ListenerPair implements GameListener {
+    private final GameListener first;
+    private final GameListener second;
+
+    ListenerPair(GameListener first, GameListener second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void attackStarted(int attackerIndex, int targetIndex) {
+        first.attackStarted(attackerIndex, targetIndex);
+        second.attackStarted(attackerIndex, targetIndex);
+    }
+
+    @Override
+    public void attacked(Card attacker, Card target, int damage, boolean followUp) {
+        first.attacked(attacker, target, damage, followUp);
+        second.attacked(attacker, target, damage, followUp);
+    }
+
+    @Override
+    public void attackBlocked(Card attacker) {
+        first.attackBlocked(attacker);
+        second.attackBlocked(attacker);
+    }
+
+    @Override
+    public void defenceDamaged(Card target, int amount, int remaining) {
+        first.defenceDamaged(target, amount, remaining);
+        second.defenceDamaged(target, amount, remaining);
+    }
+
+    @Override
+    public void lifeDamaged(Card target, int amount, int remaining) {
+        first.lifeDamaged(target, amount, remaining);
+        second.lifeDamaged(target, amount, remaining);
+    }
+
+    @Override
+    public void defeated(Card target) {
+        first.defeated(target);
+        second.defeated(target);
+    }
+
+    @Override
+    public void muteApplied(Card source, Card target, boolean attackMuted) {
+        first.muteApplied(source, target, attackMuted);
+        second.muteApplied(source, target, attackMuted);
+    }
+
+    @Override
+    public void switchStarted(boolean chosen) {
+        first.switchStarted(chosen);
+        second.switchStarted(chosen);
+    }
+
+    @Override
+    public void cardReplaced(Player player, int index, Card oldCard, Card newCard) {
+        first.cardReplaced(player, index, oldCard, newCard);
+        second.cardReplaced(player, index, oldCard, newCard);
+    }
+
+    @Override
+    public void deckExhausted() {
+        first.deckExhausted();
+        second.deckExhausted();
+    }
+
+    @Override
+    public void turnEnded() {
+        first.turnEnded();
+        second.turnEnded();
+    }
+
+    @Override
+    public void actionRejected(ActionResult result, int detail) {
+        first.actionRejected(result, detail);
+        second.actionRejected(result, detail);
+    }
+}
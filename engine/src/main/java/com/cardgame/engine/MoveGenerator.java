@@ -0,0 +1,271 @@
+package com.cardgame.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists the legal actions of the current player as primitive move codes, written into a
+ * buffer supplied by the caller, so AI and simulation code can enumerate moves in a loop
+ * without allocating. The rules are the ones {@link Game} checks before acting: no moves
+ * once the game is over, no attack or switch after attacking, no defeated cards, and no
+ * more cards drawn than the deck holds.
+ * <p>
+ * A move code packs its kind in the low two bits:
+ * <ul>
+ *     <li>{@link #END_TURN}: ends the turn.</li>
+ *     <li>{@link #ATTACK}: attacker index in bits 2-9, target index in bits 10-17.</li>
+ *     <li>{@link #SWITCH}: a {@link Game#switchCards(List)} call, with the hand indices
+ *         as a bit mask in bits 2-9.</li>
+ *     <li>{@link #SWITCH_CHOSEN}: a {@link Game#switchCardsWithChosen(List, List)} call, with
+ *         the hand mask in bits 2-9 and, for every hand index in the mask, the position of its
+ *         visible deck card in four bits starting at bit {@code 10 + 4 * handIndex}.</li>
+ * </ul>
+ * Each pairing of hand cards with visible deck cards is listed once. Identical deck cards
+ * still produce separate, equivalent moves.
+ */
+public final class MoveGenerator {
+    public static final int END_TURN = 0;
+    public static final int ATTACK = 1;
+    public static final int SWITCH = 2;
+    public static final int SWITCH_CHOSEN = 3;
+
+    /**
+     * Largest hand the move codes can describe.
+     */
+    public static final int MAX_HAND_SIZE = 8;
+
+    private static final int MAX_WINDOW_SIZE = 15;
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Gets a buffer size that fits every move of either player in the given game,
+     * as long as hands and the visible window do not grow.
+     * @param game The game
+     * @return The buffer length to allocate once
+     */
+    public static int capacity(Game game) {
+        int hand = Math.max(game.getPlayer1().getCards().size(), game.getPlayer2().getCards().size());
+        int window = game.getDeck().getVisibleCards().size();
+
+        // Every hand subset paired in order with distinct window cards: sum of C(hand, k) * P(window, k)
+        long chosen = 0;
+        long subsets = 1;
+        long arrangements = 1;
+        for (int k = 0; k <= Math.min(hand, window); k++) {
+            chosen += subsets * arrangements;
+            subsets = subsets * (hand - k) / (k + 1);
+            arrangements *= window - k;
+        }
+        return Math.toIntExact(1 + (long) hand * hand + (1L << hand) + chosen);
+    }
+
+    /**
+     * Writes every legal move of the current player: ending the turn, attacks,
+     * switches with the top of the deck and switches with chosen visible cards.
+     * @param game The game
+     * @param moves Buffer for the move codes, at least {@link #capacity(Game)} long
+     * @return The number of moves written, or 0 if the game is over
+     */
+    public static int generate(Game game, long[] moves) {
+        if (game.isGameOver()) {
+            return 0;
+        }
+
+        moves[0] = END_TURN;
+        int count = attacks(game, moves, 1);
+        count = switches(game, moves, count);
+        return chosenSwitches(game, moves, count);
+    }
+
+    /**
+     * Writes every legal attack of the current player.
+     * @param game The game
+     * @param moves Buffer for the move codes
+     * @param from Position of the first move to write
+     * @return The position after the last move written
+     */
+    public static int attacks(Game game, long[] moves, int from) {
+        Player player = game.getCurrentPlayer();
+        if (game.isGameOver() || player.hasAttackedThisTurn()) {
+            return from;
+        }
+
+        List<Card> own = player.getCards();
+        List<Card> opponent = game.getOpponent().getCards();
+        checkHandSize(own);
+        checkHandSize(opponent);
+
+        int count = from;
+        for (int a = 0; a < own.size(); a++) {
+            if (own.get(a).isDefeated()) {
+                continue;
+            }
+            for (int t = 0; t < opponent.size(); t++) {
+                if (!opponent.get(t).isDefeated()) {
+                    moves[count++] = ATTACK | (long) a << 2 | (long) t << 10;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes every non-empty set of live hand cards that can be switched with the top of the deck.
+     * @param game The game
+     * @param moves Buffer for the move codes
+     * @param from Position of the first move to write
+     * @return The position after the last move written
+     */
+    public static int switches(Game game, long[] moves, int from) {
+        Player player = game.getCurrentPlayer();
+        if (game.isGameOver() || player.hasAttackedThisTurn()) {
+            return from;
+        }
+
+        int live = liveMask(player);
+        int remaining = game.getDeck().getRemainingCards();
+        int count = from;
+
+        // Walk the non-empty subsets of the live mask
+        for (int mask = live; mask != 0; mask = (mask - 1) & live) {
+            if (Integer.bitCount(mask) <= remaining) {
+                moves[count++] = SWITCH | (long) mask << 2;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes every way of switching live hand cards with distinct visible deck cards.
+     * @param game The game
+     * @param moves Buffer for the move codes
+     * @param from Position of the first move to write
+     * @return The position after the last move written
+     */
+    public static int chosenSwitches(Game game, long[] moves, int from) {
+        Player player = game.getCurrentPlayer();
+        if (game.isGameOver() || player.hasAttackedThisTurn()) {
+            return from;
+        }
+
+        int live = liveMask(player);
+        int window = Math.min(game.getDeck().getVisibleCards().size(), MAX_WINDOW_SIZE);
+        int count = from;
+
+        for (int mask = live; mask != 0; mask = (mask - 1) & live) {
+            if (Integer.bitCount(mask) <= window) {
+                count = assign(mask, 0, window, SWITCH_CHOSEN | (long) mask << 2, moves, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gives each hand index left in the mask a window position not used yet, lowest index first.
+     */
+    private static int assign(int left, int usedWindow, int window, long move, long[] moves, int count) {
+        if (left == 0) {
+            moves[count++] = move;
+            return count;
+        }
+
+        int handIndex = Integer.numberOfTrailingZeros(left);
+        for (int w = 0; w < window; w++) {
+            if ((usedWindow & 1 << w) == 0) {
+                count = assign(left & left - 1, usedWindow | 1 << w, window,
+                        move | (long) w << (10 + 4 * handIndex), moves, count);
+            }
+        }
+        return count;
+    }
+
+    private static int liveMask(Player player) {
+        List<Card> cards = player.getCards();
+        checkHandSize(cards);
+
+        int mask = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            if (!cards.get(i).isDefeated()) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static void checkHandSize(List<Card> cards) {
+        if (cards.size() > MAX_HAND_SIZE) {
+            throw new IllegalStateException("Hands of more than " + MAX_HAND_SIZE + " cards are not supported: " + cards.size());
+        }
+    }
+
+    public static int kind(long move) {
+        return (int) (move & 3);
+    }
+
+    public static int attacker(long move) {
+        return (int) (move >>> 2 & 0xff);
+    }
+
+    public static int target(long move) {
+        return (int) (move >>> 10 & 0xff);
+    }
+
+    /**
+     * Gets the hand indices of a switch as a bit mask.
+     * @param move A {@link #SWITCH} or {@link #SWITCH_CHOSEN} move
+     * @return The mask
+     */
+    public static int handMask(long move) {
+        return (int) (move >>> 2 & 0xff);
+    }
+
+    /**
+     * Gets the visible deck position paired with a hand index.
+     * @param move A {@link #SWITCH_CHOSEN} move
+     * @param handIndex A hand index in the move's mask
+     * @return The position in {@link Deck#getVisibleCards()}
+     */
+    public static int windowIndex(long move, int handIndex) {
+        return (int) (move >>> (10 + 4 * handIndex) & 0xf);
+    }
+
+    /**
+     * Plays a move code. Unlike generating moves, this builds the argument lists the game expects.
+     * @param game The game the move was generated for
+     * @param move The move code
+     * @return The game's result
+     */
+    public static ActionResult apply(Game game, long move) {
+        switch (kind(move)) {
+            case ATTACK:
+                return game.performAttack(attacker(move), target(move));
+            case SWITCH:
+                return game.switchCards(handIndices(move));
+            case SWITCH_CHOSEN: {
+                List<Integer> indices = handIndices(move);
+                List<Card> visible = game.getDeck().getVisibleCards();
+                List<Card> chosen = new ArrayList<>(indices.size());
+
+                // The game pairs the hand indices in descending order with the chosen cards in list order
+                indices.sort((a, b) -> Integer.compare(b, a));
+                for (int handIndex : indices) {
+                    chosen.add(visible.get(windowIndex(move, handIndex)));
+                }
+                return game.switchCardsWithChosen(indices, chosen);
+            }
+            default:
+                game.endTurn();
+                return ActionResult.OK;
+        }
+    }
+
+    private static List<Integer> handIndices(long move) {
+        List<Integer> indices = new ArrayList<>();
+        for (int mask = handMask(move); mask != 0; mask &= mask - 1) {
+            indices.add(Integer.numberOfTrailingZeros(mask));
+        }
+        return indices;
+    }
+}
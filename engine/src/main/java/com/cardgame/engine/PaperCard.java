@@ -0,0 +1,33 @@
+package com.cardgame.engine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a Paper card in the game, and any catalog card with the mute ability.
+ * Paper cards have high life but low defense and can mute opponent cards.
+ */
+public class PaperCard extends Card {
+    public PaperCard() {
+        this(CardCatalog.standard().get("paper"));
+    }
+
+    PaperCard(CardDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public void attack(Card target, RandomGenerator random, GameListener events) {
+        super.attack(target, random, events);
+
+        // Special ability: mute either defense or attack
+        if (!isAttackMuted() && !target.isDefeated()) {
+            boolean muteAttack = random.nextBoolean();
+            if (muteAttack) {
+                target.setAttackMuted(true);
+            } else {
+                target.setDefenceMuted(true);
+            }
+            events.muteApplied(this, target, muteAttack);
+        }
+    }
+}
@@ -1,20 +1,19 @@
-package com.cardgame.model;
+package com.cardgame.engine;
 
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a player in the game with their hand of cards.
  */
 public class Player {
-    private final StringProperty name = new SimpleStringProperty();
-    private final ObservableList<Card> cards = FXCollections.observableArrayList();
+    private final String name;
+    private final List<Card> cards = new ArrayList<>();
     private boolean hasAttackedThisTurn = false;
+    private boolean hasSwitchedThisTurn = false;
 
     public Player(String name) {
-        this.name.set(name);
+        this.name = name;
     }
 
     /**
@@ -55,10 +54,11 @@ public class Player {
     }
 
     /**
-     * Resets the player's attack status for a new turn.
+     * Resets the player's attack and switch status for a new turn.
      */
     public void startNewTurn() {
         hasAttackedThisTurn = false;
+        hasSwitchedThisTurn = false;
 
         // Reset any turn-based effects on cards
         for (Card card : cards) {
@@ -68,14 +68,10 @@ public class Player {
 
     // Getters and setters
     public String getName() {
-        return name.get();
-    }
-
-    public StringProperty nameProperty() {
         return name;
     }
 
-    public ObservableList<Card> getCards() {
+    public List<Card> getCards() {
         return cards;
     }
 
@@ -87,6 +83,14 @@ public class Player {
         this.hasAttackedThisTurn = hasAttackedThisTurn;
     }
 
+    public boolean hasSwitchedThisTurn() {
+        return hasSwitchedThisTurn;
+    }
+
+    public void setHasSwitchedThisTurn(boolean hasSwitchedThisTurn) {
+        this.hasSwitchedThisTurn = hasSwitchedThisTurn;
+    }
+
     @Override
     public String toString() {
         return "Player: " + getName() + " with " + cards.size() + " cards";
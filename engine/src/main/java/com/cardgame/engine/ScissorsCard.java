@@ -1,39 +1,38 @@
-package com.cardgame.model;
+package com.cardgame.engine;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a Scissors card in the game.
+ * Represents a Scissors card in the game, and any catalog card with follow-up hits.
  * Scissors cards deal damage over time with up to 3 iterations.
  */
 public class ScissorsCard extends Card {
-    private static final Random random = new Random();
     private static final int MAX_ITERATIONS = 3;
 
     public ScissorsCard() {
-        super("Regular Scissors", "Scissors", 5, 3, 3);
+        this(CardCatalog.standard().get("scissors"));
+    }
+
+    ScissorsCard(CardDefinition definition) {
+        super(definition);
     }
 
     @Override
-    public String attack(Card target) {
+    public void attack(Card target, RandomGenerator random, GameListener events) {
         if (isAttackMuted()) {
-            return getName() + " is muted and cannot attack!";
+            events.attackBlocked(this);
+            return;
         }
 
-        StringBuilder result = new StringBuilder();
-
         // First attack is always max damage
         int damage = getAttack();
-        result.append(performAttack(target, damage));
+        performAttack(target, damage, false, events);
 
         // Additional damage iterations (up to 2 more)
         for (int i = 1; i < MAX_ITERATIONS && !target.isDefeated(); i++) {
             // Random damage from 1 to max attack for subsequent iterations
             damage = random.nextInt(getAttack()) + 1;
-            result.append("\n\nContinuing attack: ");
-            result.append(performAttack(target, damage));
+            performAttack(target, damage, true, events);
         }
-
-        return result.toString();
     }
 }
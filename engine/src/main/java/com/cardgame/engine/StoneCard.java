@@ -0,0 +1,18 @@
+package com.cardgame.engine;
+
+/**
+ * Represents a Stone card in the game, and any catalog card without a special ability.
+ * Stone cards have high defense but low attack and life.
+ */
+public class StoneCard extends Card {
+
+    public StoneCard() {
+        this(CardCatalog.standard().get("stone"));
+    }
+
+    StoneCard(CardDefinition definition) {
+        super(definition);
+    }
+
+    // Stone cards have no special abilities in the base version
+}
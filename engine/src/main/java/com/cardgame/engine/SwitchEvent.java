@@ -0,0 +1,37 @@
+package com.cardgame.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a switch of hand cards with deck cards.
+ */
+@Name("com.cardgame.Switch")
+@Label("Switch Cards")
+@Category({"Card Game", "Engine"})
+@Description("Hand cards replaced with deck cards")
+final class SwitchEvent extends Event {
+    @Label("Player")
+    String player;
+
+    @Label("Chosen")
+    @Description("true if the replacements were picked among the visible deck cards")
+    boolean chosen;
+
+    @Label("Cards Switched")
+    int cards;
+
+    @Label("Removed Types")
+    @Description("Types of the cards that left the hand")
+    String removedTypes;
+
+    @Label("Added Types")
+    @Description("Types of the cards that entered the hand")
+    String addedTypes;
+
+    @Label("Cards Left In Deck")
+    int remaining;
+}
@@ -0,0 +1,23 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.Game;
+
+/**
+ * Chooses the moves of a computer-controlled player.
+ */
+public interface ComputerPlayer extends AutoCloseable {
+
+    /**
+     * Chooses the next action for the current player.
+     * @param game The game to move in; it is only read
+     * @return The chosen move
+     */
+    Move chooseMove(Game game);
+
+    /**
+     * Releases any threads held by the player. Does nothing by default.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,378 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computer player that picks moves with an iterative-deepening expectimax search.
+ * The opponent's decisions are minimised and the dice of the card abilities are
+ * averaged exactly: a Paper hit branches into an attack mute and a defence mute
+ * with equal chance, and every Scissors follow-up branches into each damage value
+ * from 1 to its attack. Each decision (switch, attack or end of turn) is one ply.
+ * <p>
+ * Searched positions are kept in a transposition table that survives between calls,
+ * so positions reached again on the next move are not searched twice.
+ * A player is not thread-safe; use one per computer opponent and call it from one
+ * thread at a time, while nothing else changes the game.
+ */
+public class ExpectimaxPlayer implements ComputerPlayer {
+    private static final int DEFAULT_TABLE_BITS = 18;
+    private static final int MAX_DEPTH = 32;
+    private static final float WIN = 1000;
+    private static final int FOLLOW_UP_HITS = 2;
+    // Number of nodes between two looks at the clock
+    private static final int CLOCK_CHECK_MASK = 1023;
+
+    private final long budgetNanos;
+    private final TranspositionTable table;
+
+    private SearchState state;
+    private long deadline;
+    private boolean timeLimited;
+    private long nodes;
+    private int lastDepth;
+    private long lastNodes;
+
+    /**
+     * Creates a computer player.
+     * @param budget How long each call to {@link #chooseMove(Game)} may search
+     */
+    public ExpectimaxPlayer(Duration budget) {
+        this(budget, DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * Creates a computer player with a transposition table of 2^tableBits entries.
+     * @param budget How long each call to {@link #chooseMove(Game)} may search
+     * @param tableBits Size of the transposition table as a power of two
+     */
+    public ExpectimaxPlayer(Duration budget, int tableBits) {
+        this.budgetNanos = budget.toNanos();
+        this.table = new TranspositionTable(tableBits);
+    }
+
+    /**
+     * Chooses the next action for the current player. The first ply is always searched
+     * completely; deeper iterations stop when the budget runs out and the result of the
+     * last finished iteration is used.
+     * @param game The game to move in; it is only read
+     * @return The best move found
+     */
+    @Override
+    public Move chooseMove(Game game) {
+        if (game.isGameOver()) {
+            return Move.endTurn();
+        }
+
+        state = SearchState.of(game);
+        deadline = System.nanoTime() + budgetNanos;
+        nodes = 0;
+        table.nextGeneration();
+
+        List<Move> moves = rootMoves();
+        float sign = state.current == 0 ? 1 : -1;
+        int best = 0;
+
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            timeLimited = depth > 1;
+            int iterationBest = -1;
+            float iterationValue = Float.NEGATIVE_INFINITY;
+
+            try {
+                for (int i = 0; i < moves.size(); i++) {
+                    float value = sign * moveValue(moves.get(i), depth);
+                    if (value > iterationValue) {
+                        iterationBest = i;
+                        iterationValue = value;
+                    }
+                }
+            } catch (SearchTimeout timeout) {
+                break;
+            }
+
+            best = iterationBest;
+            lastDepth = depth;
+
+            // A forced result will not change with more depth
+            if (Math.abs(iterationValue) >= WIN) {
+                break;
+            }
+        }
+
+        lastNodes = nodes;
+        return moves.get(best);
+    }
+
+    /**
+     * Gets the depth of the last finished iteration of the previous search.
+     * @return The depth in plies
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * Gets the number of positions visited by the previous search.
+     * @return The node count
+     */
+    public long getLastNodeCount() {
+        return lastNodes;
+    }
+
+    /**
+     * Lists the legal moves of the current player, skipping moves that cannot change
+     * anything: attacks with attack-muted cards and switches for an identical deck card.
+     */
+    private List<Move> rootMoves() {
+        List<Move> moves = new ArrayList<>();
+        moves.add(Move.endTurn());
+
+        int own = state.offset(state.current);
+        int opponent = state.offset(1 - state.current);
+        for (int a = 0; a < state.handSize(state.current); a++) {
+            if (state.isDefeated(own + a) || state.isAttackMuted(own + a)) {
+                continue;
+            }
+            for (int t = 0; t < state.handSize(1 - state.current); t++) {
+                if (!state.isDefeated(opponent + t)) {
+                    moves.add(Move.attack(a, t));
+                }
+            }
+        }
+
+        if (!state.switched) {
+            for (int i = 0; i < state.handSize(state.current); i++) {
+                if (state.isDefeated(own + i)) {
+                    continue;
+                }
+                for (int j = 0; j < state.windowSize; j++) {
+                    if (!state.hasEarlierTwin(j)) {
+                        moves.add(Move.switchCard(i, state.windowCards[j]));
+                    }
+                }
+            }
+        }
+        return moves;
+    }
+
+    private float moveValue(Move move, int depth) {
+        int own = state.offset(state.current);
+        return switch (move.getKind()) {
+            case END_TURN -> endTurnValue(depth);
+            case ATTACK -> attackValue(own + move.getHandIndex(),
+                    state.offset(1 - state.current) + move.getTargetIndex(), depth);
+            case SWITCH -> switchValue(own + move.getHandIndex(), windowIndexOf(move), depth);
+        };
+    }
+
+    private int windowIndexOf(Move move) {
+        for (int j = 0; j < state.windowSize; j++) {
+            if (state.windowCards[j] == move.getDeckCard()) {
+                return j;
+            }
+        }
+        throw new IllegalStateException("Deck card is not visible: " + move.getDeckCard());
+    }
+
+    /**
+     * Values the position for the player to move. Values are always from player 1's side;
+     * player 1 maximises and player 2 minimises.
+     */
+    private float search(int depth) {
+        if ((++nodes & CLOCK_CHECK_MASK) == 0 && timeLimited && System.nanoTime() > deadline) {
+            throw SearchTimeout.INSTANCE;
+        }
+
+        if (state.hasLost(1)) {
+            return WIN;
+        }
+        if (state.hasLost(0)) {
+            return -WIN;
+        }
+        if (depth == 0) {
+            return evaluate();
+        }
+
+        long key = state.hash();
+        float cached = table.probe(key, depth);
+        if (!Float.isNaN(cached)) {
+            return cached;
+        }
+
+        boolean maximizing = state.current == 0;
+        float best = endTurnValue(depth);
+
+        int own = state.offset(state.current);
+        int opponent = state.offset(1 - state.current);
+        int ownSize = state.handSize(state.current);
+        int opponentSize = state.handSize(1 - state.current);
+
+        for (int a = own; a < own + ownSize; a++) {
+            if (state.isDefeated(a) || state.isAttackMuted(a)) {
+                continue;
+            }
+            for (int t = opponent; t < opponent + opponentSize; t++) {
+                if (!state.isDefeated(t)) {
+                    float value = attackValue(a, t, depth);
+                    best = maximizing ? Math.max(best, value) : Math.min(best, value);
+                }
+            }
+        }
+
+        if (!state.switched) {
+            for (int slot = own; slot < own + ownSize; slot++) {
+                if (state.isDefeated(slot)) {
+                    continue;
+                }
+                for (int j = 0; j < state.windowSize; j++) {
+                    if (!state.hasEarlierTwin(j)) {
+                        float value = switchValue(slot, j, depth);
+                        best = maximizing ? Math.max(best, value) : Math.min(best, value);
+                    }
+                }
+            }
+        }
+
+        table.store(key, depth, best);
+        return best;
+    }
+
+    private float endTurnValue(int depth) {
+        int current = state.current;
+        boolean switched = state.switched;
+
+        state.current = 1 - current;
+        state.switched = false;
+        float value = search(depth - 1);
+
+        state.current = current;
+        state.switched = switched;
+        return value;
+    }
+
+    /**
+     * Averages over every outcome of an attack. The attack ends the turn, since
+     * nothing else is allowed after attacking.
+     */
+    private float attackValue(int attacker, int target, int depth) {
+        int life = state.life[target];
+        int defence = state.defence[target];
+        int flags = state.flags[target];
+        float value;
+
+        state.hit(target, state.attack[attacker]);
+        if (state.type[attacker] == SearchState.PAPER && !state.isDefeated(target)) {
+            state.flags[target] = flags | SearchState.ATTACK_MUTED;
+            float attackMuted = endTurnValue(depth);
+            state.flags[target] = flags | SearchState.DEFENCE_MUTED;
+            float defenceMuted = endTurnValue(depth);
+            value = (attackMuted + defenceMuted) / 2;
+        } else if (state.type[attacker] == SearchState.SCISSORS) {
+            value = followUpValue(attacker, target, FOLLOW_UP_HITS, depth);
+        } else {
+            value = endTurnValue(depth);
+        }
+
+        state.life[target] = life;
+        state.defence[target] = defence;
+        state.flags[target] = flags;
+        return value;
+    }
+
+    /**
+     * Averages over the random damage of the remaining Scissors follow-up hits,
+     * which stop as soon as the target is defeated.
+     */
+    private float followUpValue(int attacker, int target, int hitsLeft, int depth) {
+        if (hitsLeft == 0 || state.isDefeated(target)) {
+            return endTurnValue(depth);
+        }
+
+        int life = state.life[target];
+        int defence = state.defence[target];
+        int maxDamage = state.attack[attacker];
+        float sum = 0;
+
+        for (int damage = 1; damage <= maxDamage; damage++) {
+            state.hit(target, damage);
+            sum += followUpValue(attacker, target, hitsLeft - 1, depth);
+            state.life[target] = life;
+            state.defence[target] = defence;
+        }
+        return sum / maxDamage;
+    }
+
+    /**
+     * Values taking a visible deck card into a hand slot. The player keeps the move.
+     */
+    private float switchValue(int slot, int windowIndex, int depth) {
+        int type = state.type[slot];
+        int life = state.life[slot];
+        int defence = state.defence[slot];
+        int attack = state.attack[slot];
+        int flags = state.flags[slot];
+
+        int windowType = state.windowType[windowIndex];
+        int windowLife = state.windowLife[windowIndex];
+        int windowDefence = state.windowDefence[windowIndex];
+        int windowAttack = state.windowAttack[windowIndex];
+        Card windowCard = state.windowCards[windowIndex];
+
+        state.takeFromWindow(slot, windowIndex);
+        state.switched = true;
+        float value = search(depth - 1);
+        state.switched = false;
+        state.returnToWindow(windowIndex, windowType, windowLife, windowDefence, windowAttack, windowCard);
+
+        state.type[slot] = type;
+        state.life[slot] = life;
+        state.defence[slot] = defence;
+        state.attack[slot] = attack;
+        state.flags[slot] = flags;
+        return value;
+    }
+
+    /**
+     * Scores a position that is not decided yet, from player 1's side.
+     */
+    private float evaluate() {
+        return handValue(0) - handValue(1);
+    }
+
+    private float handValue(int player) {
+        int from = state.offset(player);
+        int to = from + state.handSize(player);
+        float value = 0;
+
+        for (int slot = from; slot < to; slot++) {
+            if (state.isDefeated(slot)) {
+                continue;
+            }
+
+            value += 10 + state.life[slot] + state.defence[slot] * 0.5f;
+            if (!state.isAttackMuted(slot)) {
+                value += state.attack[slot] * 2;
+            }
+            // A defence-muted card never loses life, so it can no longer be defeated
+            if (state.isDefenceMuted(slot)) {
+                value += 20;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Unwinds the search when the time budget runs out.
+     */
+    private static final class SearchTimeout extends RuntimeException {
+        static final SearchTimeout INSTANCE = new SearchTimeout();
+
+        private SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computer player that picks moves with Monte Carlo tree search on several threads.
+ * <p>
+ * The search is root-parallel: every thread grows its own tree from the current position
+ * and shares nothing with the others until the end, where the visit counts of the first
+ * moves are added up and the most visited move is played. Randomness is handled by
+ * determinization: each playout first guesses an order for the hidden part of the deck,
+ * then rolls the Paper mutes and Scissors damage as it goes. Tree nodes stand for move
+ * sequences, so the statistics average over all those guesses.
+ */
+public class MctsPlayer implements ComputerPlayer {
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_PLAYOUT_TURNS = 60;
+
+    private final int threads;
+    private final long budgetNanos;
+    private final long maxPlayouts;
+    private final SplittableRandom random;
+    private final ExecutorService executor;
+
+    private long lastPlayouts;
+    private long lastNanos;
+
+    /**
+     * Creates a player that searches for the whole budget on every move.
+     * @param threads Number of search threads
+     * @param budget How long each call to {@link #chooseMove(Game)} may search
+     */
+    public MctsPlayer(int threads, Duration budget) {
+        this(threads, budget, Long.MAX_VALUE, new SplittableRandom());
+    }
+
+    /**
+     * Creates a player that stops at the budget or after a number of playouts, whichever comes first.
+     * @param threads Number of search threads
+     * @param budget How long each call to {@link #chooseMove(Game)} may search
+     * @param maxPlayouts Playouts per move, shared evenly between the threads
+     * @param random Source of the threads' random streams
+     */
+    public MctsPlayer(int threads, Duration budget, long maxPlayouts, SplittableRandom random) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        this.threads = threads;
+        this.budgetNanos = budget.toNanos();
+        this.maxPlayouts = maxPlayouts;
+        this.random = random;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Move chooseMove(Game game) {
+        if (game.isGameOver()) {
+            return Move.endTurn();
+        }
+
+        PlayoutState root = PlayoutState.of(game);
+        List<Move> moves = new ArrayList<>();
+        int[] rootMoves = rootMoves(root, game, moves);
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        List<Future<long[]>> results = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            long playouts = maxPlayouts / threads + (i < maxPlayouts % threads ? 1 : 0);
+            results.add(executor.submit(new Worker(root.copy(), rootMoves, random.split(), deadline, playouts)));
+        }
+
+        // Each worker returns its visits per root move, followed by its playout count
+        long[] visits = new long[rootMoves.length];
+        long playouts = 0;
+        for (Future<long[]> result : results) {
+            long[] counts = join(result);
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += counts[i];
+            }
+            playouts += counts[visits.length];
+        }
+
+        lastPlayouts = playouts;
+        lastNanos = System.nanoTime() - start;
+
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return moves.get(best);
+    }
+
+    private static long[] join(Future<long[]> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search thread failed", e.getCause());
+        }
+    }
+
+    /**
+     * Lists the current player's moves, numbered for the playout state, and the matching
+     * public moves. Interchangeable deck cards are only offered once.
+     */
+    private static int[] rootMoves(PlayoutState root, Game game, List<Move> moves) {
+        int[] all = new int[root.moveSlots()];
+        int count = root.legalMoves(all);
+        List<Card> window = game.getDeck().getVisibleCards();
+        int[] kept = new int[count];
+        int keptCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            int move = all[i];
+            Move publicMove = root.toMove(move, window);
+            if (publicMove.getKind() == Move.Kind.SWITCH && hasEarlierTwin(window, publicMove.getDeckCard())) {
+                continue;
+            }
+            kept[keptCount++] = move;
+            moves.add(publicMove);
+        }
+        return Arrays.copyOf(kept, keptCount);
+    }
+
+    private static boolean hasEarlierTwin(List<Card> window, Card card) {
+        for (Card other : window) {
+            if (other == card) {
+                return false;
+            }
+            if (other.getClass() == card.getClass() && other.getCurrentLife() == card.getCurrentLife()
+                    && other.getCurrentDefence() == card.getCurrentDefence() && other.getAttack() == card.getAttack()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of playouts run by the previous search, over all threads.
+     * @return The playout count
+     */
+    public long getLastPlayoutCount() {
+        return lastPlayouts;
+    }
+
+    /**
+     * Gets the playout throughput of the previous search, over all threads.
+     * @return Playouts per second
+     */
+    public double getLastPlayoutsPerSecond() {
+        return lastNanos == 0 ? 0 : lastPlayouts * 1e9 / lastNanos;
+    }
+
+    /**
+     * Stops the search threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Node of one thread's tree. It stands for the move sequence leading to it and keeps
+     * the results of the playouts that passed through, from the side of the player who
+     * made its move.
+     */
+    private static final class Node {
+        final int player;
+        Node[] children;
+        int visits;
+        double wins;
+
+        Node(int player) {
+            this.player = player;
+        }
+    }
+
+    /**
+     * Grows one tree until the deadline or its share of playouts is reached.
+     */
+    private static final class Worker implements Callable<long[]> {
+        private final PlayoutState root;
+        private final PlayoutState state;
+        private final int[] rootMoves;
+        private final SplittableRandom random;
+        private final long deadline;
+        private final long maxPlayouts;
+        private final int[] moves;
+        private final Node[] path = new Node[256];
+
+        Worker(PlayoutState root, int[] rootMoves, SplittableRandom random, long deadline, long maxPlayouts) {
+            this.root = root;
+            this.state = root.copy();
+            this.rootMoves = rootMoves;
+            this.random = random;
+            this.deadline = deadline;
+            this.maxPlayouts = maxPlayouts;
+            this.moves = new int[root.moveSlots()];
+        }
+
+        @Override
+        public long[] call() {
+            Node tree = new Node(1 - root.current);
+            tree.children = new Node[root.moveSlots()];
+            for (int move : rootMoves) {
+                tree.children[move] = new Node(root.current);
+            }
+
+            long playouts = 0;
+            while (playouts < maxPlayouts && System.nanoTime() < deadline) {
+                iterate(tree);
+                playouts++;
+            }
+
+            long[] counts = new long[rootMoves.length + 1];
+            for (int i = 0; i < rootMoves.length; i++) {
+                counts[i] = tree.children[rootMoves[i]].visits;
+            }
+            counts[rootMoves.length] = playouts;
+            return counts;
+        }
+
+        /**
+         * Runs one selection, expansion, playout and backup pass on a fresh determinization.
+         */
+        private void iterate(Node tree) {
+            state.copyFrom(root);
+            state.shuffleHidden(random);
+
+            int depth = 0;
+            path[depth++] = tree;
+            Node node = tree;
+            boolean atRoot = true;
+
+            while (depth < path.length && !state.hasLost(0) && !state.hasLost(1)) {
+                int count;
+                if (atRoot) {
+                    count = rootMoves.length;
+                    System.arraycopy(rootMoves, 0, moves, 0, count);
+                    atRoot = false;
+                } else {
+                    count = state.legalMoves(moves);
+                }
+                if (node.children == null) {
+                    node.children = new Node[moves.length];
+                }
+
+                int move = select(node, count);
+                Node child = node.children[move];
+                boolean expanded = child == null;
+                if (expanded) {
+                    child = new Node(state.current);
+                    node.children[move] = child;
+                }
+
+                state.play(move, random);
+                path[depth++] = child;
+                node = child;
+                if (expanded) {
+                    break;
+                }
+            }
+
+            double player1Share = state.playOut(random, MAX_PLAYOUT_TURNS);
+            for (int i = 0; i < depth; i++) {
+                Node visited = path[i];
+                visited.visits++;
+                visited.wins += visited.player == 0 ? player1Share : 1 - player1Share;
+            }
+        }
+
+        /**
+         * Picks an untried legal move at random if there is one, otherwise the legal move
+         * with the best UCB1 score.
+         */
+        private int select(Node node, int count) {
+            int untried = -1;
+            int seen = 0;
+            for (int i = 0; i < count; i++) {
+                if (node.children[moves[i]] == null || node.children[moves[i]].visits == 0) {
+                    seen++;
+                    if (random.nextInt(seen) == 0) {
+                        untried = moves[i];
+                    }
+                }
+            }
+            if (untried >= 0) {
+                return untried;
+            }
+
+            double logVisits = Math.log(node.visits);
+            int best = moves[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = node.children[moves[i]];
+                double score = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    best = moves[i];
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+    }
+}
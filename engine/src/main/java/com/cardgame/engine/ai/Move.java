@@ -0,0 +1,110 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.ActionResult;
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+
+import java.util.List;
+
+/**
+ * One action chosen by a computer player: switching a hand card for a visible
+ * deck card, attacking, or ending the turn.
+ */
+public final class Move {
+
+    /**
+     * The kind of action.
+     */
+    public enum Kind {
+        SWITCH,
+        ATTACK,
+        END_TURN
+    }
+
+    private static final Move END_TURN = new Move(Kind.END_TURN, -1, -1, null);
+
+    private final Kind kind;
+    private final int handIndex;
+    private final int targetIndex;
+    private final Card deckCard;
+
+    private Move(Kind kind, int handIndex, int targetIndex, Card deckCard) {
+        this.kind = kind;
+        this.handIndex = handIndex;
+        this.targetIndex = targetIndex;
+        this.deckCard = deckCard;
+    }
+
+    /**
+     * Creates a move that ends the turn.
+     * @return The move
+     */
+    public static Move endTurn() {
+        return END_TURN;
+    }
+
+    /**
+     * Creates an attack move.
+     * @param attackerIndex Index of the attacking card in the current player's hand
+     * @param targetIndex Index of the target card in the opponent's hand
+     * @return The move
+     */
+    public static Move attack(int attackerIndex, int targetIndex) {
+        return new Move(Kind.ATTACK, attackerIndex, targetIndex, null);
+    }
+
+    /**
+     * Creates a move that swaps one hand card for a visible deck card.
+     * @param handIndex Index of the card to replace in the current player's hand
+     * @param deckCard The visible deck card to take
+     * @return The move
+     */
+    public static Move switchCard(int handIndex, Card deckCard) {
+        return new Move(Kind.SWITCH, handIndex, -1, deckCard);
+    }
+
+    /**
+     * Carries out the move on the game.
+     * @param game The game to play the move in
+     * @return The engine's result; always {@link ActionResult#OK} for ending the turn
+     */
+    public ActionResult applyTo(Game game) {
+        return switch (kind) {
+            case SWITCH -> game.switchCardsWithChosen(List.of(handIndex), List.of(deckCard));
+            case ATTACK -> game.performAttack(handIndex, targetIndex);
+            case END_TURN -> {
+                game.endTurn();
+                yield ActionResult.OK;
+            }
+        };
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the hand card the move uses: the attacker for attacks, the replaced card for switches.
+     * @return The hand index, or -1 for ending the turn
+     */
+    public int getHandIndex() {
+        return handIndex;
+    }
+
+    public int getTargetIndex() {
+        return targetIndex;
+    }
+
+    public Card getDeckCard() {
+        return deckCard;
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case SWITCH -> "Switch " + handIndex + " for " + deckCard.getType();
+            case ATTACK -> "Attack " + handIndex + " -> " + targetIndex;
+            case END_TURN -> "End turn";
+        };
+    }
+}
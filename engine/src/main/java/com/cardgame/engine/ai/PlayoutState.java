@@ -0,0 +1,406 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Complete, mutable copy of a game for random playouts. Unlike {@link SearchState}
+ * it holds the whole deck, top card last, so switches can refill the visible window.
+ * The order of the hidden cards is only a guess: {@link #shuffleHidden(RandomGenerator)}
+ * draws a new one for every playout.
+ * <p>
+ * Moves are numbered densely: 0 ends the turn, the next {@code handSlots^2} numbers are
+ * attacks and the rest are switches of a hand slot for a window position.
+ */
+final class PlayoutState {
+    static final int END_TURN = 0;
+    static final int WINDOW_SIZE = 5;
+
+    private static final int FOLLOW_UP_HITS = 2;
+
+    private final int player1HandSize;
+    private final int handSlots;
+    private final int[] type;
+    private final int[] life;
+    private final int[] defence;
+    private final int[] attack;
+    private final int[] flags;
+
+    private final int[] deckType;
+    private final int[] deckLife;
+    private final int[] deckDefence;
+    private final int[] deckAttack;
+    private int deckSize;
+    private int hiddenSize;
+
+    int current;
+    boolean switched;
+
+    private PlayoutState(int player1HandSize, int player2HandSize, int deckCapacity) {
+        this.player1HandSize = player1HandSize;
+        this.handSlots = Math.max(player1HandSize, player2HandSize);
+        int slots = player1HandSize + player2HandSize;
+        type = new int[slots];
+        life = new int[slots];
+        defence = new int[slots];
+        attack = new int[slots];
+        flags = new int[slots];
+
+        deckType = new int[deckCapacity];
+        deckLife = new int[deckCapacity];
+        deckDefence = new int[deckCapacity];
+        deckAttack = new int[deckCapacity];
+    }
+
+    /**
+     * Copies a game. The hidden cards keep their real order until they are shuffled.
+     * @param game The game to copy
+     * @return The playout state
+     */
+    static PlayoutState of(Game game) {
+        List<Card> hand1 = game.getPlayer1().getCards();
+        List<Card> hand2 = game.getPlayer2().getCards();
+        List<Card> hidden = game.getDeck().getHiddenCards();
+        List<Card> window = game.getDeck().getVisibleCards();
+        PlayoutState state = new PlayoutState(hand1.size(), hand2.size(), hidden.size() + window.size());
+
+        for (int i = 0; i < hand1.size(); i++) {
+            state.setSlot(i, hand1.get(i));
+        }
+        for (int i = 0; i < hand2.size(); i++) {
+            state.setSlot(hand1.size() + i, hand2.get(i));
+        }
+
+        // Bottom of the deck first; the first visible card is the top card
+        for (Card card : hidden) {
+            state.pushDeck(card);
+        }
+        for (int j = window.size() - 1; j >= 0; j--) {
+            state.pushDeck(window.get(j));
+        }
+        state.hiddenSize = hidden.size();
+
+        state.current = game.getCurrentPlayerIndex();
+        state.switched = game.getCurrentPlayer().hasSwitchedThisTurn();
+        return state;
+    }
+
+    private void setSlot(int slot, Card card) {
+        type[slot] = typeOf(card);
+        life[slot] = card.getCurrentLife();
+        defence[slot] = card.getCurrentDefence();
+        attack[slot] = card.getAttack();
+        flags[slot] = (card.isAttackMuted() ? SearchState.ATTACK_MUTED : 0)
+                | (card.isDefenceMuted() ? SearchState.DEFENCE_MUTED : 0);
+    }
+
+    private void pushDeck(Card card) {
+        deckType[deckSize] = typeOf(card);
+        deckLife[deckSize] = card.getCurrentLife();
+        deckDefence[deckSize] = card.getCurrentDefence();
+        deckAttack[deckSize] = card.getAttack();
+        deckSize++;
+    }
+
+    private static int typeOf(Card card) {
+        return switch (card.getDefinition().getAbility()) {
+            case NONE -> SearchState.STONE;
+            case MUTE -> SearchState.PAPER;
+            case FOLLOW_UP_HITS -> SearchState.SCISSORS;
+        };
+    }
+
+    /**
+     * Creates an independent copy for one search thread.
+     */
+    PlayoutState copy() {
+        PlayoutState copy = new PlayoutState(player1HandSize, type.length - player1HandSize, deckType.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Resets this state to another state of the same game, without allocating.
+     */
+    void copyFrom(PlayoutState other) {
+        System.arraycopy(other.type, 0, type, 0, type.length);
+        System.arraycopy(other.life, 0, life, 0, life.length);
+        System.arraycopy(other.defence, 0, defence, 0, defence.length);
+        System.arraycopy(other.attack, 0, attack, 0, attack.length);
+        System.arraycopy(other.flags, 0, flags, 0, flags.length);
+
+        System.arraycopy(other.deckType, 0, deckType, 0, other.deckSize);
+        System.arraycopy(other.deckLife, 0, deckLife, 0, other.deckSize);
+        System.arraycopy(other.deckDefence, 0, deckDefence, 0, other.deckSize);
+        System.arraycopy(other.deckAttack, 0, deckAttack, 0, other.deckSize);
+        deckSize = other.deckSize;
+        hiddenSize = other.hiddenSize;
+
+        current = other.current;
+        switched = other.switched;
+    }
+
+    /**
+     * Guesses an order for the cards below the visible window (a Fisher-Yates shuffle).
+     */
+    void shuffleHidden(RandomGenerator random) {
+        for (int i = hiddenSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            swapDeck(i, j);
+        }
+    }
+
+    private void swapDeck(int i, int j) {
+        int t = deckType[i];
+        deckType[i] = deckType[j];
+        deckType[j] = t;
+        t = deckLife[i];
+        deckLife[i] = deckLife[j];
+        deckLife[j] = t;
+        t = deckDefence[i];
+        deckDefence[i] = deckDefence[j];
+        deckDefence[j] = t;
+        t = deckAttack[i];
+        deckAttack[i] = deckAttack[j];
+        deckAttack[j] = t;
+    }
+
+    /**
+     * Gets the number of distinct move numbers.
+     */
+    int moveSlots() {
+        return 1 + handSlots * handSlots + handSlots * WINDOW_SIZE;
+    }
+
+    int attackMove(int attackerIndex, int targetIndex) {
+        return 1 + attackerIndex * handSlots + targetIndex;
+    }
+
+    int switchMove(int handIndex, int windowIndex) {
+        return 1 + handSlots * handSlots + handIndex * WINDOW_SIZE + windowIndex;
+    }
+
+    /**
+     * Turns a move number into a public move for the game this state was copied from.
+     * @param window The game's visible deck cards
+     */
+    Move toMove(int move, List<Card> window) {
+        if (move == END_TURN) {
+            return Move.endTurn();
+        } else if (move <= handSlots * handSlots) {
+            return Move.attack((move - 1) / handSlots, (move - 1) % handSlots);
+        }
+        int index = move - 1 - handSlots * handSlots;
+        return Move.switchCard(index / WINDOW_SIZE, window.get(index % WINDOW_SIZE));
+    }
+
+    private int offset(int player) {
+        return player == 0 ? 0 : player1HandSize;
+    }
+
+    private int handSize(int player) {
+        return player == 0 ? player1HandSize : type.length - player1HandSize;
+    }
+
+    private int windowSize() {
+        return Math.min(WINDOW_SIZE, deckSize);
+    }
+
+    private boolean isDefeated(int slot) {
+        return life[slot] <= 0;
+    }
+
+    private boolean canAttack(int slot) {
+        return life[slot] > 0 && (flags[slot] & SearchState.ATTACK_MUTED) == 0;
+    }
+
+    boolean hasLost(int player) {
+        int from = offset(player);
+        int to = from + handSize(player);
+        for (int slot = from; slot < to; slot++) {
+            if (!isDefeated(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the legal moves of the current player into the buffer, leaving out attacks
+     * with attack-muted cards since they do nothing.
+     * @return The number of moves written
+     */
+    int legalMoves(int[] moves) {
+        int count = 0;
+        moves[count++] = END_TURN;
+
+        int own = offset(current);
+        int opponent = offset(1 - current);
+        for (int a = 0; a < handSize(current); a++) {
+            if (!canAttack(own + a)) {
+                continue;
+            }
+            for (int t = 0; t < handSize(1 - current); t++) {
+                if (!isDefeated(opponent + t)) {
+                    moves[count++] = attackMove(a, t);
+                }
+            }
+        }
+
+        if (!switched) {
+            for (int i = 0; i < handSize(current); i++) {
+                if (isDefeated(own + i)) {
+                    continue;
+                }
+                for (int j = 0; j < windowSize(); j++) {
+                    moves[count++] = switchMove(i, j);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move, rolling the card abilities with the given random source the same way
+     * the engine does. An attack also ends the turn, since nothing else is allowed after it.
+     */
+    void play(int move, RandomGenerator random) {
+        if (move == END_TURN) {
+            endTurn();
+        } else if (move <= handSlots * handSlots) {
+            int attacker = offset(current) + (move - 1) / handSlots;
+            int target = offset(1 - current) + (move - 1) % handSlots;
+            resolveAttack(attacker, target, random);
+            endTurn();
+        } else {
+            int index = move - 1 - handSlots * handSlots;
+            takeFromWindow(offset(current) + index / WINDOW_SIZE, index % WINDOW_SIZE);
+            switched = true;
+        }
+    }
+
+    private void endTurn() {
+        current = 1 - current;
+        switched = false;
+    }
+
+    private void resolveAttack(int attacker, int target, RandomGenerator random) {
+        hit(target, attack[attacker]);
+
+        if (type[attacker] == SearchState.PAPER) {
+            if (!isDefeated(target)) {
+                flags[target] |= random.nextBoolean() ? SearchState.ATTACK_MUTED : SearchState.DEFENCE_MUTED;
+            }
+        } else if (type[attacker] == SearchState.SCISSORS) {
+            for (int i = 0; i < FOLLOW_UP_HITS && !isDefeated(target); i++) {
+                hit(target, random.nextInt(attack[attacker]) + 1);
+            }
+        }
+    }
+
+    private void hit(int target, int damage) {
+        if (defence[target] > 0) {
+            int defenceDamage = Math.min(defence[target], damage);
+            defence[target] -= defenceDamage;
+            damage -= defenceDamage;
+        }
+
+        if (damage > 0 && (flags[target] & SearchState.DEFENCE_MUTED) == 0) {
+            life[target] = Math.max(0, life[target] - damage);
+        }
+    }
+
+    /**
+     * Moves a window card into a hand slot; the cards above it move down so the
+     * window refills from the hidden part, as in the engine's deck.
+     */
+    private void takeFromWindow(int slot, int windowIndex) {
+        int position = deckSize - 1 - windowIndex;
+        type[slot] = deckType[position];
+        life[slot] = deckLife[position];
+        defence[slot] = deckDefence[position];
+        attack[slot] = deckAttack[position];
+        flags[slot] = 0;
+
+        deckSize--;
+        for (int i = position; i < deckSize; i++) {
+            deckType[i] = deckType[i + 1];
+            deckLife[i] = deckLife[i + 1];
+            deckDefence[i] = deckDefence[i + 1];
+            deckAttack[i] = deckAttack[i + 1];
+        }
+        hiddenSize = Math.min(hiddenSize, Math.max(0, deckSize - WINDOW_SIZE));
+    }
+
+    /**
+     * Plays random attacks until the game ends or the turn limit is reached.
+     * Each turn the current player attacks a random live target with a random card
+     * that can attack, or passes if none can.
+     * @return 1 if player 1 won, 0 if player 2 won, otherwise a share between 0 and 1
+     *         based on the cards left on each side
+     */
+    double playOut(RandomGenerator random, int maxTurns) {
+        for (int turn = 0; turn < maxTurns; turn++) {
+            if (hasLost(1)) {
+                return 1;
+            }
+            if (hasLost(0)) {
+                return 0;
+            }
+
+            int attacker = randomSlot(current, true, random);
+            int target = randomSlot(1 - current, false, random);
+            if (attacker >= 0) {
+                resolveAttack(attacker, target, random);
+            }
+            endTurn();
+        }
+
+        if (hasLost(1)) {
+            return 1;
+        }
+        if (hasLost(0)) {
+            return 0;
+        }
+        double strength1 = strength(0);
+        double strength2 = strength(1);
+        return strength1 / (strength1 + strength2);
+    }
+
+    /**
+     * Picks a random live card of a player with reservoir sampling.
+     * @return The slot, or -1 if there is none
+     */
+    private int randomSlot(int player, boolean mustAttack, RandomGenerator random) {
+        int from = offset(player);
+        int to = from + handSize(player);
+        int chosen = -1;
+        int seen = 0;
+
+        for (int slot = from; slot < to; slot++) {
+            if (mustAttack ? canAttack(slot) : !isDefeated(slot)) {
+                seen++;
+                if (random.nextInt(seen) == 0) {
+                    chosen = slot;
+                }
+            }
+        }
+        return chosen;
+    }
+
+    private double strength(int player) {
+        int from = offset(player);
+        int to = from + handSize(player);
+        double strength = 0;
+
+        for (int slot = from; slot < to; slot++) {
+            if (!isDefeated(slot)) {
+                strength += life[slot] + defence[slot];
+            }
+        }
+        return strength;
+    }
+}
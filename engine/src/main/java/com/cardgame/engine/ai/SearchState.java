@@ -0,0 +1,240 @@
+package com.cardgame.engine.ai;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.Player;
+
+import java.util.List;
+
+/**
+ * Compact, mutable copy of a game position for the search.
+ * Hand cards of both players are kept in parallel arrays, player 1's slots first.
+ * The deck is only known as far as its visible window: cards that a switch would
+ * reveal behind the window are hidden information, so the search never draws them.
+ */
+final class SearchState {
+    static final int STONE = 0;
+    static final int PAPER = 1;
+    static final int SCISSORS = 2;
+
+    static final int ATTACK_MUTED = 1;
+    static final int DEFENCE_MUTED = 2;
+
+    private final int player1HandSize;
+    final int[] type;
+    final int[] life;
+    final int[] defence;
+    final int[] attack;
+    final int[] flags;
+
+    final int[] windowType;
+    final int[] windowLife;
+    final int[] windowDefence;
+    final int[] windowAttack;
+    final Card[] windowCards;
+    int windowSize;
+
+    int current;
+    boolean switched;
+
+    private SearchState(int player1HandSize, int player2HandSize, int windowCapacity) {
+        this.player1HandSize = player1HandSize;
+        int slots = player1HandSize + player2HandSize;
+        type = new int[slots];
+        life = new int[slots];
+        defence = new int[slots];
+        attack = new int[slots];
+        flags = new int[slots];
+
+        windowType = new int[windowCapacity];
+        windowLife = new int[windowCapacity];
+        windowDefence = new int[windowCapacity];
+        windowAttack = new int[windowCapacity];
+        windowCards = new Card[windowCapacity];
+    }
+
+    /**
+     * Copies the position of a game.
+     * @param game The game to copy
+     * @return The search state
+     */
+    static SearchState of(Game game) {
+        List<Card> hand1 = game.getPlayer1().getCards();
+        List<Card> hand2 = game.getPlayer2().getCards();
+        List<Card> window = game.getDeck().getVisibleCards();
+        SearchState state = new SearchState(hand1.size(), hand2.size(), window.size());
+
+        for (int i = 0; i < hand1.size(); i++) {
+            state.setSlot(i, hand1.get(i));
+        }
+        for (int i = 0; i < hand2.size(); i++) {
+            state.setSlot(hand1.size() + i, hand2.get(i));
+        }
+        for (Card card : window) {
+            int j = state.windowSize++;
+            state.windowType[j] = typeOf(card);
+            state.windowLife[j] = card.getCurrentLife();
+            state.windowDefence[j] = card.getCurrentDefence();
+            state.windowAttack[j] = card.getAttack();
+            state.windowCards[j] = card;
+        }
+
+        Player currentPlayer = game.getCurrentPlayer();
+        state.current = game.getCurrentPlayerIndex();
+        state.switched = currentPlayer.hasSwitchedThisTurn();
+        return state;
+    }
+
+    private void setSlot(int slot, Card card) {
+        type[slot] = typeOf(card);
+        life[slot] = card.getCurrentLife();
+        defence[slot] = card.getCurrentDefence();
+        attack[slot] = card.getAttack();
+        flags[slot] = (card.isAttackMuted() ? ATTACK_MUTED : 0) | (card.isDefenceMuted() ? DEFENCE_MUTED : 0);
+    }
+
+    private static int typeOf(Card card) {
+        return switch (card.getDefinition().getAbility()) {
+            case NONE -> STONE;
+            case MUTE -> PAPER;
+            case FOLLOW_UP_HITS -> SCISSORS;
+        };
+    }
+
+    /**
+     * Gets the first slot of a player's hand.
+     */
+    int offset(int player) {
+        return player == 0 ? 0 : player1HandSize;
+    }
+
+    /**
+     * Gets the number of cards in a player's hand.
+     */
+    int handSize(int player) {
+        return player == 0 ? player1HandSize : type.length - player1HandSize;
+    }
+
+    boolean isDefeated(int slot) {
+        return life[slot] <= 0;
+    }
+
+    boolean isAttackMuted(int slot) {
+        return (flags[slot] & ATTACK_MUTED) != 0;
+    }
+
+    boolean isDefenceMuted(int slot) {
+        return (flags[slot] & DEFENCE_MUTED) != 0;
+    }
+
+    /**
+     * Checks if all of a player's cards are defeated.
+     */
+    boolean hasLost(int player) {
+        int from = offset(player);
+        int to = from + handSize(player);
+        for (int slot = from; slot < to; slot++) {
+            if (!isDefeated(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies one hit the same way {@code Card.performAttack} does: defence first,
+     * then life unless the target's defence is muted.
+     */
+    void hit(int target, int damage) {
+        if (defence[target] > 0) {
+            int defenceDamage = Math.min(defence[target], damage);
+            defence[target] -= defenceDamage;
+            damage -= defenceDamage;
+        }
+
+        if (damage > 0 && !isDefenceMuted(target)) {
+            life[target] = Math.max(0, life[target] - damage);
+        }
+    }
+
+    /**
+     * Moves a visible deck card into a hand slot, overwriting the old card.
+     * The caller saves the slot and the window card beforehand to undo the switch.
+     */
+    void takeFromWindow(int slot, int windowIndex) {
+        type[slot] = windowType[windowIndex];
+        life[slot] = windowLife[windowIndex];
+        defence[slot] = windowDefence[windowIndex];
+        attack[slot] = windowAttack[windowIndex];
+        flags[slot] = 0;
+
+        windowSize--;
+        for (int j = windowIndex; j < windowSize; j++) {
+            copyWindow(j + 1, j);
+        }
+    }
+
+    /**
+     * Puts a window card back where it was taken from.
+     */
+    void returnToWindow(int windowIndex, int cardType, int cardLife, int cardDefence, int cardAttack, Card card) {
+        for (int j = windowSize; j > windowIndex; j--) {
+            copyWindow(j - 1, j);
+        }
+        windowSize++;
+
+        windowType[windowIndex] = cardType;
+        windowLife[windowIndex] = cardLife;
+        windowDefence[windowIndex] = cardDefence;
+        windowAttack[windowIndex] = cardAttack;
+        windowCards[windowIndex] = card;
+    }
+
+    private void copyWindow(int from, int to) {
+        windowType[to] = windowType[from];
+        windowLife[to] = windowLife[from];
+        windowDefence[to] = windowDefence[from];
+        windowAttack[to] = windowAttack[from];
+        windowCards[to] = windowCards[from];
+    }
+
+    /**
+     * Checks if an earlier window card is interchangeable with the given one,
+     * so taking either leads to the same position.
+     */
+    boolean hasEarlierTwin(int windowIndex) {
+        for (int j = 0; j < windowIndex; j++) {
+            if (windowType[j] == windowType[windowIndex] && windowLife[j] == windowLife[windowIndex]
+                    && windowDefence[j] == windowDefence[windowIndex] && windowAttack[j] == windowAttack[windowIndex]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hashes everything that affects the rest of the game. Distinct positions can
+     * collide with a chance of about 2^-64 per pair, which the search accepts.
+     */
+    long hash() {
+        long h = current | (switched ? 2 : 0);
+        for (int slot = 0; slot < type.length; slot++) {
+            h = mix(h ^ ((long) type[slot] | (long) life[slot] << 4 | (long) defence[slot] << 20
+                    | (long) attack[slot] << 36 | (long) flags[slot] << 52));
+        }
+        for (int j = 0; j < windowSize; j++) {
+            h = mix(h ^ ((long) windowType[j] | (long) windowLife[j] << 4 | (long) windowDefence[j] << 20
+                    | (long) windowAttack[j] << 36 | 1L << 56));
+        }
+        return mix(h ^ windowSize);
+    }
+
+    /**
+     * The finalizer of MurmurHash3, which spreads every input bit over the whole result.
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,58 @@
+package com.cardgame.engine.ai;
+
+/**
+ * Fixed-size hash table of searched positions and their values.
+ * Entries live in parallel arrays indexed by the low bits of the position hash, and a
+ * slot is overwritten when the new result is searched at least as deep or the old one
+ * was stored during an earlier move. Values never depend on how a position was reached,
+ * so entries stay valid from one move to the next.
+ */
+final class TranspositionTable {
+    private final long[] keys;
+    private final float[] values;
+    private final byte[] depths;
+    private final byte[] generations;
+    private final int mask;
+    private byte generation;
+
+    /**
+     * Creates a table with 2^bits entries.
+     */
+    TranspositionTable(int bits) {
+        int size = 1 << bits;
+        keys = new long[size];
+        values = new float[size];
+        depths = new byte[size];
+        generations = new byte[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Looks up a position searched at least as deep as requested.
+     * @return The stored value, or NaN if there is none
+     */
+    float probe(long key, int depth) {
+        int slot = (int) key & mask;
+        if (keys[slot] == key && depths[slot] >= depth) {
+            return values[slot];
+        }
+        return Float.NaN;
+    }
+
+    void store(long key, int depth, float value) {
+        int slot = (int) key & mask;
+        if (depths[slot] == 0 || generations[slot] != generation || depth >= depths[slot]) {
+            keys[slot] = key;
+            values[slot] = value;
+            depths[slot] = (byte) depth;
+            generations[slot] = generation;
+        }
+    }
+
+    /**
+     * Marks existing entries as older than those of the next search, so they give way first.
+     */
+    void nextGeneration() {
+        generation++;
+    }
+}
@@ -0,0 +1,155 @@
+package com.cardgame.engine.journal;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameListener;
+import com.cardgame.engine.Player;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Listener that encodes one game's actions as journal records in memory, ready to be
+ * appended to a {@link JournalWriter} in a single write once the game is over.
+ * <p>
+ * A recorder is reused from game to game: {@link #start(Game)} clears it and records the
+ * deal, after which it must be the game's listener until the game is appended.
+ */
+public class GameRecorder implements GameListener {
+    private byte[] records = new byte[256];
+    private int size;
+    private Game game;
+
+    // The visible deck cards when a chosen switch started, to record where each chosen card was
+    private Card[] window = new Card[0];
+    private int windowSize;
+
+    /**
+     * Clears the previous game and records the deal of a new one.
+     * @param game A game on which no action has been taken yet
+     */
+    public void start(Game game) {
+        Player player1 = game.getPlayer1();
+        Player player2 = game.getPlayer2();
+        if (game.getCurrentPlayerIndex() != 0 || player1.getCards().size() != Game.INITIAL_HAND_SIZE
+                || player2.getCards().size() != Game.INITIAL_HAND_SIZE
+                || player1.hasAttackedThisTurn() || player1.hasSwitchedThisTurn()) {
+            throw new IllegalStateException("Games must be recorded from the deal");
+        }
+
+        // Rebuild the dealing order: the undrawn deck bottom first, then the hands in reverse drawing order
+        List<Card> hidden = game.getDeck().getHiddenCards();
+        List<Card> visible = game.getDeck().getVisibleCards();
+        int cards = hidden.size() + visible.size() + 2 * Game.INITIAL_HAND_SIZE;
+
+        this.game = game;
+        size = 0;
+        ensure(2 + cards);
+        records[size++] = Journal.GAME;
+        records[size++] = (byte) cards;
+        for (Card card : hidden) {
+            records[size++] = (byte) Journal.typeOf(card);
+        }
+        for (int i = visible.size() - 1; i >= 0; i--) {
+            records[size++] = (byte) Journal.typeOf(visible.get(i));
+        }
+        for (int i = Game.INITIAL_HAND_SIZE - 1; i >= 0; i--) {
+            records[size++] = (byte) Journal.typeOf(player2.getCards().get(i));
+        }
+        for (int i = Game.INITIAL_HAND_SIZE - 1; i >= 0; i--) {
+            records[size++] = (byte) Journal.typeOf(player1.getCards().get(i));
+        }
+    }
+
+    @Override
+    public void attackStarted(int attackerIndex, int targetIndex) {
+        put(Journal.ATTACK, attackerIndex, targetIndex);
+    }
+
+    @Override
+    public void attacked(Card attacker, Card target, int damage, boolean followUp) {
+        if (followUp) {
+            put(Journal.ROLL, damage);
+        }
+    }
+
+    @Override
+    public void muteApplied(Card source, Card target, boolean attackMuted) {
+        put(Journal.MUTE, attackMuted ? 1 : 0);
+    }
+
+    @Override
+    public void switchStarted(boolean chosen) {
+        put(Journal.SWITCH, chosen ? 1 : 0);
+
+        windowSize = 0;
+        if (chosen) {
+            List<Card> visible = game.getDeck().getVisibleCards();
+            if (window.length < visible.size()) {
+                window = new Card[visible.size()];
+            }
+            for (Card card : visible) {
+                window[windowSize++] = card;
+            }
+        }
+    }
+
+    @Override
+    public void cardReplaced(Player player, int index, Card oldCard, Card newCard) {
+        put(Journal.REPLACE, index, windowPosition(newCard));
+    }
+
+    /**
+     * Finds a chosen card among the visible cards at the start of the switch. Cards drawn from the top get 0.
+     */
+    private int windowPosition(Card card) {
+        for (int i = 0; i < windowSize; i++) {
+            if (window[i] == card) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void turnEnded() {
+        ensure(1);
+        records[size++] = Journal.END_TURN;
+    }
+
+    private void put(int opcode, int value) {
+        ensure(2);
+        records[size++] = (byte) opcode;
+        records[size++] = (byte) value;
+    }
+
+    private void put(int opcode, int first, int second) {
+        ensure(3);
+        records[size++] = (byte) opcode;
+        records[size++] = (byte) first;
+        records[size++] = (byte) second;
+    }
+
+    private void ensure(int bytes) {
+        if (size + bytes > records.length) {
+            records = Arrays.copyOf(records, Math.max(records.length * 2, size + bytes));
+        }
+    }
+
+    /**
+     * Gets the size of the recorded game.
+     * @return The number of bytes recorded since {@link #start(Game)}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the recorded game into a buffer.
+     * @param buffer A buffer with at least {@link #size()} bytes remaining
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.put(records, 0, size);
+    }
+}
@@ -0,0 +1,65 @@
+package com.cardgame.engine.journal;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.CardCatalog;
+
+/**
+ * Binary format of game journals.
+ * <p>
+ * A journal file starts with the four byte {@link #MAGIC} and is followed by records, each
+ * an opcode byte and a fixed payload. A game starts with a {@link #GAME} record holding the
+ * deal and continues with its actions until the next {@link #GAME} record or the end of the
+ * file. Only actions the game accepted are recorded, and every attack is followed by the
+ * random outcomes it drew, so a replay needs neither the seed nor the random source.
+ * <ul>
+ *     <li>{@link #GAME}: card count, then the {@link CardCatalog} code of every card in dealing order, top card last.</li>
+ *     <li>{@link #ATTACK}: attacker index, target index.</li>
+ *     <li>{@link #MUTE}: 1 if a Paper attack muted the target's attack, 0 if it muted its defence.</li>
+ *     <li>{@link #ROLL}: damage of a Scissors follow-up hit.</li>
+ *     <li>{@link #SWITCH}: 1 if the player chose visible deck cards, 0 for the top of the deck.</li>
+ *     <li>{@link #REPLACE}: one per card of the switch, in the order the game replaced them: the hand
+ *         index, and for chosen cards their position among the visible cards when the switch started.</li>
+ *     <li>{@link #END_TURN}: no payload.</li>
+ * </ul>
+ */
+public final class Journal {
+    /**
+     * "CGJ" followed by the format version.
+     */
+    public static final int MAGIC = 0x43474A01;
+
+    public static final int GAME = 1;
+    public static final int ATTACK = 2;
+    public static final int MUTE = 3;
+    public static final int ROLL = 4;
+    public static final int SWITCH = 5;
+    public static final int REPLACE = 6;
+    public static final int END_TURN = 7;
+
+    // Codes of the standard cards in the catalog
+    public static final int STONE = 0;
+    public static final int PAPER = 1;
+    public static final int SCISSORS = 2;
+
+    private Journal() {
+    }
+
+    /**
+     * Gets the type code of a card.
+     * @param card The card
+     * @return The card's code in the {@link CardCatalog}, such as {@link #STONE}
+     */
+    public static int typeOf(Card card) {
+        return card.getDefinition().getCode();
+    }
+
+    /**
+     * Creates a fresh card of a type code.
+     * @param type The type code
+     * @return The new card
+     * @throws IllegalArgumentException If the catalog has no card with the code
+     */
+    public static Card newCard(int type) {
+        return CardCatalog.standard().get(type).newCard();
+    }
+}
@@ -0,0 +1,320 @@
+package com.cardgame.engine.journal;
+
+import com.cardgame.engine.ActionResult;
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a journal through memory-mapped windows of the file.
+ * <p>
+ * {@link #next()} steps through the records one at a time, which is enough for analytics
+ * that only count or inspect actions. {@link #replayGame(String, String, GameListener)}
+ * rebuilds the game at the current {@link Journal#GAME} record and plays its actions on the
+ * engine, feeding the recorded random outcomes back in, so the replayed game ends in
+ * exactly the recorded state.
+ */
+public class JournalReader implements AutoCloseable {
+    private static final long WINDOW_SIZE = 64L << 20;
+    private static final int MAX_DEAL = 255;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    private int type;
+    private long recordPosition;
+    private int first;
+    private int second;
+    private final byte[] deal = new byte[MAX_DEAL];
+    private boolean pushedBack;
+
+    private JournalReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.position = Integer.BYTES;
+        map(position);
+    }
+
+    /**
+     * Opens a journal for reading.
+     * @param path The journal file
+     * @return The reader, positioned before the first record
+     * @throws IOException If the file cannot be opened or is not a journal
+     */
+    public static JournalReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            checkHeader(channel, path);
+            return new JournalReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static void checkHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // Keep reading until the header is complete or the file ends
+        }
+        if (header.hasRemaining() || header.getInt(0) != Journal.MAGIC) {
+            throw new IOException("Not a game journal: " + path);
+        }
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+    }
+
+    /**
+     * Makes sure the next bytes are inside the mapped window, moving the window if needed.
+     */
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > fileSize) {
+            throw new IllegalStateException("Journal ends inside the record at " + recordPosition);
+        }
+        if (position < windowStart || position + bytes > windowStart + window.limit()) {
+            map(position);
+        }
+    }
+
+    private int readByte() throws IOException {
+        ensure(1);
+        return window.get((int) (position++ - windowStart)) & 0xff;
+    }
+
+    /**
+     * Moves to the next record.
+     * @return false at the end of the journal
+     * @throws IOException If the file cannot be read
+     */
+    public boolean next() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return true;
+        }
+        if (position == fileSize) {
+            type = 0;
+            return false;
+        }
+
+        recordPosition = position;
+        type = readByte();
+        switch (type) {
+            case Journal.GAME -> {
+                first = readByte();
+                ensure(first);
+                window.get((int) (position - windowStart), deal, 0, first);
+                position += first;
+            }
+            case Journal.ATTACK, Journal.REPLACE -> {
+                first = readByte();
+                second = readByte();
+            }
+            case Journal.MUTE, Journal.ROLL, Journal.SWITCH -> first = readByte();
+            case Journal.END_TURN -> {
+            }
+            default -> throw new IllegalStateException("Unknown journal record " + type + " at " + recordPosition);
+        }
+        return true;
+    }
+
+    /**
+     * Moves to the start of the next game, skipping the rest of the current one.
+     * @return false if there are no more games
+     * @throws IOException If the file cannot be read
+     */
+    public boolean nextGame() throws IOException {
+        while (next()) {
+            if (type == Journal.GAME) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the opcode of the current record.
+     * @return One of the record constants in {@link Journal}
+     */
+    public int type() {
+        return type;
+    }
+
+    /**
+     * Gets the file offset of the current record, for pointing at it in bug reports.
+     * @return The offset in bytes
+     */
+    public long recordPosition() {
+        return recordPosition;
+    }
+
+    /**
+     * Gets the first payload value: the card count of a game, the attacker or hand index,
+     * the mute, roll or switch kind.
+     * @return The value
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * Gets the second payload value: the target index of an attack or the window position of a replacement.
+     * @return The value
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * Gets the type code of a card in the current game record's deal.
+     * @param index Position in dealing order, top card last
+     * @return The type code
+     */
+    public int dealCard(int index) {
+        return deal[index] & 0xff;
+    }
+
+    /**
+     * Replays the game at the current record.
+     * @see #replayGame(String, String, GameListener)
+     */
+    public Game replayGame(String player1Name, String player2Name) throws IOException {
+        return replayGame(player1Name, player2Name, GameListener.NONE);
+    }
+
+    /**
+     * Replays the game at the current {@link Journal#GAME} record up to the next game or the
+     * end of the journal, which {@link #next()} and {@link #nextGame()} then continue from.
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param listener Receives the events of the replayed actions
+     * @return The game in its final recorded state
+     * @throws IOException If the file cannot be read
+     * @throws IllegalStateException If the journal does not match what the engine does
+     */
+    public Game replayGame(String player1Name, String player2Name, GameListener listener) throws IOException {
+        if (type != Journal.GAME) {
+            throw new IllegalStateException("No game starts at " + recordPosition);
+        }
+        pushedBack = false;
+
+        List<Card> cards = new ArrayList<>(first);
+        for (int i = 0; i < first; i++) {
+            cards.add(Journal.newCard(deal[i]));
+        }
+        ScriptedRandom random = new ScriptedRandom();
+        Game game = new Game(player1Name, player2Name, cards, random);
+        game.setListener(listener);
+        replayTurns(game, random, Integer.MAX_VALUE);
+        return game;
+    }
+
+    /**
+     * Plays the recorded actions that follow on a game, stopping after the given number of
+     * ended turns or at the end of the recorded game, whichever comes first. The reader is
+     * left before the first record it did not play.
+     * @param game The game in the state the actions were recorded from
+     * @param random The game's random source
+     * @param turns Most turns to end
+     * @return The number of turns ended
+     */
+    int replayTurns(Game game, ScriptedRandom random, int turns) throws IOException {
+        int ended = 0;
+        while (ended < turns && next()) {
+            if (type == Journal.GAME) {
+                // Leave the next game's record for the caller
+                pushedBack = true;
+                break;
+            }
+            long actionPosition = recordPosition;
+            switch (type) {
+                case Journal.ATTACK -> {
+                    int attacker = first;
+                    int target = second;
+                    random.clear();
+                    boolean more = next();
+                    while (more && (type == Journal.MUTE || type == Journal.ROLL)) {
+                        random.add(type, first);
+                        more = next();
+                    }
+                    pushedBack = more;
+                    check(game.performAttack(attacker, target), actionPosition);
+                    if (!random.isUsedUp()) {
+                        throw new IllegalStateException("The attack at " + actionPosition + " drew fewer outcomes than recorded");
+                    }
+                }
+                case Journal.SWITCH -> {
+                    boolean chosen = first == 1;
+                    List<Card> visible = game.getDeck().getVisibleCards();
+                    List<Integer> indices = new ArrayList<>();
+                    List<Card> replacements = new ArrayList<>();
+                    boolean more = next();
+                    while (more && type == Journal.REPLACE) {
+                        indices.add(first);
+                        if (chosen) {
+                            if (second >= visible.size()) {
+                                throw new IllegalStateException("The switch at " + actionPosition + " chose a card that is not visible");
+                            }
+                            replacements.add(visible.get(second));
+                        }
+                        more = next();
+                    }
+                    pushedBack = more;
+                    check(chosen ? game.switchCardsWithChosen(indices, replacements) : game.switchCards(indices),
+                            actionPosition);
+                }
+                case Journal.END_TURN -> {
+                    game.endTurn();
+                    ended++;
+                }
+                default -> throw new IllegalStateException("Unexpected journal record " + type + " at " + actionPosition);
+            }
+        }
+        return ended;
+    }
+
+    /**
+     * Gets the file offset of the record {@link #next()} returns next.
+     */
+    long nextRecordPosition() {
+        return pushedBack ? recordPosition : position;
+    }
+
+    /**
+     * Moves back or forward to a record, such as a game found earlier with {@link #recordPosition()}.
+     * @param recordPosition File offset of the record, which {@link #next()} returns next
+     */
+    public void seek(long recordPosition) {
+        if (recordPosition < Integer.BYTES || recordPosition > fileSize) {
+            throw new IllegalArgumentException("Not a record position in this journal: " + recordPosition);
+        }
+        position = recordPosition;
+        pushedBack = false;
+        type = 0;
+    }
+
+    private static void check(ActionResult result, long actionPosition) {
+        if (result != ActionResult.OK) {
+            throw new IllegalStateException("The action at " + actionPosition + " was rejected on replay: " + result);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
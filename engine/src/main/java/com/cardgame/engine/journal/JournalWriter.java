@@ -0,0 +1,96 @@
+package com.cardgame.engine.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends recorded games to a journal file.
+ * <p>
+ * Games are collected in a direct buffer and written to the end of the file when it fills
+ * up, so a write covers many games. Each game is appended whole, and appending is
+ * synchronized, so several threads can share a writer and their games never interleave.
+ * The file is only ever extended; existing journals are continued, not overwritten.
+ */
+public class JournalWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private JournalWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a journal for appending, creating it if it does not exist.
+     * @param path The journal file
+     * @return The writer
+     * @throws IOException If the file cannot be opened or is not a journal
+     */
+    public static JournalWriter open(Path path) throws IOException {
+        if (Files.exists(path) && Files.size(path) > 0) {
+            try (FileChannel existing = FileChannel.open(path, StandardOpenOption.READ)) {
+                JournalReader.checkHeader(existing, path);
+            }
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        JournalWriter writer = new JournalWriter(channel);
+        if (channel.size() == 0) {
+            writer.buffer.putInt(Journal.MAGIC);
+        }
+        return writer;
+    }
+
+    /**
+     * Appends the game held by a recorder.
+     * @param recorder The recorder, after the game is over or abandoned
+     * @throws IOException If writing fails
+     */
+    public synchronized void append(GameRecorder recorder) throws IOException {
+        if (recorder.size() > buffer.remaining()) {
+            flush();
+        }
+        if (recorder.size() > buffer.remaining()) {
+            // Larger than the whole buffer: write it on its own
+            ByteBuffer single = ByteBuffer.allocate(recorder.size());
+            recorder.writeTo(single);
+            writeFully(single.flip());
+            return;
+        }
+        recorder.writeTo(buffer);
+    }
+
+    /**
+     * Writes every buffered game to the file.
+     * @throws IOException If writing fails
+     */
+    public synchronized void flush() throws IOException {
+        writeFully(buffer.flip());
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * Writes the buffered games and closes the file.
+     * @throws IOException If writing or closing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cardgame.engine.journal;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameListener;
+import com.cardgame.engine.GameSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index over one journaled game that restores the game as it was after any number of turns.
+ * <p>
+ * Building the timeline replays the game once and keeps a {@link GameSnapshot} of the state
+ * every {@link #KEYFRAME_INTERVAL} turns, plus the journal offset where every turn starts.
+ * The journal records in between are the deltas: {@link #seek(int)} restores the closest
+ * keyframe at or before the requested turn and replays at most {@link #KEYFRAME_INTERVAL}
+ * turns of recorded actions from the journal, so seeking costs the same anywhere in the game
+ * and in either direction.
+ * <p>
+ * The timeline reads actions through the reader it was built from. The reader must stay open
+ * while the timeline is used and must not be used for anything else in the meantime.
+ */
+public class ReplayTimeline {
+    /**
+     * Number of turns between two keyframes.
+     */
+    public static final int KEYFRAME_INTERVAL = 8;
+
+    private final JournalReader reader;
+    private final long[] turnPositions;
+    private final byte[][] keyframes;
+    private final int turns;
+
+    private ReplayTimeline(JournalReader reader, long[] turnPositions, byte[][] keyframes, int turns) {
+        this.reader = reader;
+        this.turnPositions = turnPositions;
+        this.keyframes = keyframes;
+        this.turns = turns;
+    }
+
+    /**
+     * Indexes the game at the reader's current {@link Journal#GAME} record.
+     * @param reader The reader, on the record that starts the game
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @return The timeline
+     * @throws IOException If the file cannot be read
+     * @throws IllegalStateException If the journal does not match what the engine does
+     */
+    public static ReplayTimeline of(JournalReader reader, String player1Name, String player2Name) throws IOException {
+        if (reader.type() != Journal.GAME) {
+            throw new IllegalStateException("No game starts at " + reader.recordPosition());
+        }
+
+        List<Card> cards = new ArrayList<>(reader.first());
+        for (int i = 0; i < reader.first(); i++) {
+            cards.add(Journal.newCard(reader.dealCard(i)));
+        }
+        ScriptedRandom random = new ScriptedRandom();
+        Game game = new Game(player1Name, player2Name, cards, random);
+
+        long[] turnPositions = new long[64];
+        byte[][] keyframes = new byte[8][];
+        int ended = 0;
+        while (true) {
+            if (ended == turnPositions.length) {
+                turnPositions = Arrays.copyOf(turnPositions, ended * 2);
+            }
+            turnPositions[ended] = reader.nextRecordPosition();
+            if (ended % KEYFRAME_INTERVAL == 0) {
+                int keyframe = ended / KEYFRAME_INTERVAL;
+                if (keyframe == keyframes.length) {
+                    keyframes = Arrays.copyOf(keyframes, keyframe * 2);
+                }
+                keyframes[keyframe] = GameSnapshot.encode(game);
+            }
+            if (reader.replayTurns(game, random, 1) == 0) {
+                break;
+            }
+            ended++;
+        }
+
+        // A game that was won mid-turn has one more turn after the last ended one
+        boolean unfinishedTurn = turnPositions[ended] != reader.nextRecordPosition();
+        return new ReplayTimeline(reader, turnPositions, keyframes, unfinishedTurn ? ended + 1 : ended);
+    }
+
+    /**
+     * Gets the length of the game.
+     * @return The number of turns played, counting a last turn that won the game before it ended
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Restores the game as it was after some turns.
+     * @see #seek(int, GameListener)
+     */
+    public Game seek(int turn) throws IOException {
+        return seek(turn, GameListener.NONE);
+    }
+
+    /**
+     * Restores the game as it was after some turns. The listener receives the events of the
+     * last of those turns, so it can describe how the game got to the restored state.
+     * @param turn Number of turns played, from 0 for the deal to {@link #getTurns()} for the end of the game
+     * @param listener Receives the events of the last replayed turn
+     * @return A new game in the restored state, with a random source that only replays recorded outcomes
+     * @throws IOException If the file cannot be read
+     */
+    public Game seek(int turn, GameListener listener) throws IOException {
+        if (turn < 0 || turn > turns) {
+            throw new IllegalArgumentException("Turn " + turn + " is outside the game's 0 to " + turns + " turns");
+        }
+
+        // Start from the keyframe before the last turn so that turn is replayed for the listener
+        int keyframe = Math.max(turn - 1, 0) / KEYFRAME_INTERVAL;
+        int from = keyframe * KEYFRAME_INTERVAL;
+        ScriptedRandom random = new ScriptedRandom();
+        Game game = GameSnapshot.decode(ByteBuffer.wrap(keyframes[keyframe]), random);
+
+        reader.seek(turnPositions[from]);
+        if (turn > from) {
+            reader.replayTurns(game, random, turn - from - 1);
+            game.setListener(listener);
+            reader.replayTurns(game, random, 1);
+        }
+        game.setListener(GameListener.NONE);
+        return game;
+    }
+}
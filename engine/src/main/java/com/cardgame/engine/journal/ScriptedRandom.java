@@ -0,0 +1,61 @@
+package com.cardgame.engine.journal;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random source for replays that hands out the outcomes recorded for the current attack,
+ * in recording order. Asking for an outcome that was not recorded, or of the wrong kind,
+ * means the journal does not match the game.
+ */
+final class ScriptedRandom implements RandomGenerator {
+    // An attack draws at most two outcomes; a few more leave room for future abilities
+    private final int[] kinds = new int[8];
+    private final int[] values = new int[8];
+    private int count;
+    private int next;
+
+    void clear() {
+        count = 0;
+        next = 0;
+    }
+
+    void add(int kind, int value) {
+        if (count == kinds.length) {
+            throw new IllegalStateException("Too many random outcomes recorded for one attack");
+        }
+        kinds[count] = kind;
+        values[count] = value;
+        count++;
+    }
+
+    boolean isUsedUp() {
+        return next == count;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return take(Journal.MUTE) == 1;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        // A Scissors roll of d was drawn as nextInt(attack) + 1
+        int value = take(Journal.ROLL) - 1;
+        if (value < 0 || value >= bound) {
+            throw new IllegalStateException("Recorded roll " + (value + 1) + " is out of range 1-" + bound);
+        }
+        return value;
+    }
+
+    @Override
+    public long nextLong() {
+        throw new IllegalStateException("The game drew a random number that journals do not record");
+    }
+
+    private int take(int kind) {
+        if (next == count || kinds[next] != kind) {
+            throw new IllegalStateException("The game drew a random outcome the journal did not record");
+        }
+        return values[next++];
+    }
+}
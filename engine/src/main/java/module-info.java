@@ -0,0 +1,11 @@
+/**
+ * Headless rules engine for the card game. Has no JavaFX dependency so it can
+ * run on servers and in simulations without starting the toolkit.
+ */
+module com.cardgame.engine {
+    requires jdk.jfr;
+
+    exports com.cardgame.engine;
+    exports com.cardgame.engine.ai;
+    exports com.cardgame.engine.journal;
+}
@@ -0,0 +1,487 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Ability;
+import com.cardgame.engine.CardCatalog;
+import com.cardgame.engine.CardDefinition;
+import com.cardgame.engine.Game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays many games side by side, with all state kept in flat primitive columns
+ * instead of card, player and deck objects.
+ * <p>
+ * Every game is a lane. Card slots of lane {@code l} start at {@code l * 2 * HAND_SIZE},
+ * player 1's cards first, and hold the card's catalog code, life, defence, attack and mute
+ * flags in parallel arrays; the deck of a lane is a run of card codes, top card last. Codes
+ * are bytes read unsigned, and the stats are shorts, since the catalog allows values up to 255. {@link #step()}
+ * plays one turn in every unfinished lane, so all games advance in lockstep.
+ * <p>
+ * A step works in phases across all lanes: every lane picks its attack, then the hits are
+ * gathered into one batch for the {@link DamageKernel}, then the abilities run, with Scissors
+ * follow-up hits batched per round. Lanes never share state, so this only changes the order
+ * of work between lanes, not the outcome of any game.
+ * <p>
+ * The rules, the built-in move policies and the order in which random numbers are drawn
+ * all mirror the object engine and {@link SimulationTask}, so a batch reset from the same
+ * seed plays exactly the same games. {@link BatchValidator} checks this.
+ */
+public class BatchEngine {
+    static final int HAND_SIZE = Game.INITIAL_HAND_SIZE;
+
+    static final byte ATTACK_MUTED = 1;
+    static final byte DEFENCE_MUTED = 2;
+    private static final int FOLLOW_UP_HITS = 2;
+    private static final int NO_WINNER = -1;
+    private static final int NO_ATTACK = -1;
+
+    private final int lanes;
+    private final boolean player1Greedy;
+    private final boolean player2Greedy;
+    private final int maxTurns;
+
+    // Starting stats, names and abilities by card code, taken from the card catalog
+    private final CardDefinition[] definitions;
+    private final int fullDeckSize;
+
+    private final byte[] type;
+    private final short[] life;
+    private final short[] defence;
+    private final short[] attack;
+    private final byte[] flags;
+
+    private final byte[] deck;
+    private final int[] deckSize;
+
+    private final byte[] current;
+    private final boolean[] gameOver;
+    private final int[] turns;
+    private final SplittableRandom[] gameRandom;
+    private final SplittableRandom[] policyRandom;
+    private int active;
+
+    // Attacker and target slot of the current step per lane, or NO_ATTACK
+    private final int[] attackers;
+    private final int[] targets;
+
+    // One batch of hits, gathered from the columns for the kernel and scattered back after
+    private final DamageKernel kernel;
+    private final int[] hitSlots;
+    private final int[] hitDefence;
+    private final int[] hitLife;
+    private final int[] hitFlags;
+    private final int[] hitDamage;
+
+    /**
+     * Creates an engine for a fixed number of games, using the vector damage kernel if it is available.
+     * @param lanes Number of games played side by side
+     * @param player1Policy Policy of player 1, "random" or "greedy"
+     * @param player2Policy Policy of player 2, "random" or "greedy"
+     * @param maxTurns Turns after which an unfinished game counts as a draw
+     */
+    public BatchEngine(int lanes, String player1Policy, String player2Policy, int maxTurns) {
+        this(lanes, player1Policy, player2Policy, maxTurns, DamageKernel.best());
+    }
+
+    /**
+     * Creates an engine for a fixed number of games.
+     * @param lanes Number of games played side by side
+     * @param player1Policy Policy of player 1, "random" or "greedy"
+     * @param player2Policy Policy of player 2, "random" or "greedy"
+     * @param maxTurns Turns after which an unfinished game counts as a draw
+     * @param kernel Kernel that resolves the batched hits
+     */
+    public BatchEngine(int lanes, String player1Policy, String player2Policy, int maxTurns, DamageKernel kernel) {
+        this(lanes, player1Policy, player2Policy, maxTurns, kernel, CardCatalog.standard());
+    }
+
+    /**
+     * Creates an engine for a fixed number of games that deal from the given catalog.
+     * @param lanes Number of games played side by side
+     * @param player1Policy Policy of player 1, "random" or "greedy"
+     * @param player2Policy Policy of player 2, "random" or "greedy"
+     * @param maxTurns Turns after which an unfinished game counts as a draw
+     * @param kernel Kernel that resolves the batched hits
+     * @param catalog The catalog whose cards make up every deck
+     */
+    public BatchEngine(int lanes, String player1Policy, String player2Policy, int maxTurns, DamageKernel kernel,
+                       CardCatalog catalog) {
+        this.lanes = lanes;
+        this.player1Greedy = isGreedy(player1Policy);
+        this.player2Greedy = isGreedy(player2Policy);
+        this.maxTurns = maxTurns;
+        this.definitions = catalog.getDefinitions().toArray(new CardDefinition[0]);
+        this.fullDeckSize = catalog.getDeckSize();
+
+        int slots = lanes * 2 * HAND_SIZE;
+        type = new byte[slots];
+        life = new short[slots];
+        defence = new short[slots];
+        attack = new short[slots];
+        flags = new byte[slots];
+
+        deck = new byte[lanes * fullDeckSize];
+        deckSize = new int[lanes];
+
+        current = new byte[lanes];
+        gameOver = new boolean[lanes];
+        turns = new int[lanes];
+        gameRandom = new SplittableRandom[lanes];
+        policyRandom = new SplittableRandom[lanes];
+
+        attackers = new int[lanes];
+        targets = new int[lanes];
+
+        this.kernel = kernel;
+        hitSlots = new int[lanes];
+        hitDefence = new int[lanes];
+        hitLife = new int[lanes];
+        hitFlags = new int[lanes];
+        hitDamage = new int[lanes];
+    }
+
+    private static boolean isGreedy(String policy) {
+        return switch (policy) {
+            case "random" -> false;
+            case "greedy" -> true;
+            default -> throw new IllegalArgumentException("The batch engine has no policy named: " + policy);
+        };
+    }
+
+    /**
+     * Deals new games in every lane. Each lane takes a split of the root for its game and
+     * then one for its policies, the same order in which {@link SimulationTask} creates games.
+     * @param root Random source to split the lanes' sources from
+     */
+    public void reset(SplittableRandom root) {
+        for (int lane = 0; lane < lanes; lane++) {
+            gameRandom[lane] = root.split();
+            policyRandom[lane] = root.split();
+            deal(lane);
+        }
+        active = lanes;
+    }
+
+    /**
+     * Builds and shuffles a lane's deck the way the engine's deck does, then deals both hands.
+     */
+    private void deal(int lane) {
+        int base = lane * fullDeckSize;
+        int size = 0;
+        for (CardDefinition definition : definitions) {
+            for (int i = 0; i < definition.getCopies(); i++) {
+                deck[base + size++] = (byte) definition.getCode();
+            }
+        }
+
+        // Same walk as Collections.shuffle on a random-access list
+        SplittableRandom random = gameRandom[lane];
+        for (int i = size; i > 1; i--) {
+            int j = base + random.nextInt(i);
+            byte swap = deck[base + i - 1];
+            deck[base + i - 1] = deck[j];
+            deck[j] = swap;
+        }
+        deckSize[lane] = size;
+
+        for (int player = 0; player < 2; player++) {
+            for (int i = 0; i < HAND_SIZE; i++) {
+                place(slot(lane, player, i), draw(lane));
+            }
+        }
+
+        current[lane] = 0;
+        gameOver[lane] = false;
+        turns[lane] = 0;
+    }
+
+    private byte draw(int lane) {
+        return deck[lane * fullDeckSize + --deckSize[lane]];
+    }
+
+    private void place(int slot, byte code) {
+        type[slot] = code;
+        CardDefinition definition = definition(slot);
+        life[slot] = (short) definition.getLife();
+        defence[slot] = (short) definition.getDefence();
+        attack[slot] = (short) definition.getAttack();
+        flags[slot] = 0;
+    }
+
+    private CardDefinition definition(int slot) {
+        return definitions[type[slot] & 0xFF];
+    }
+
+    static int slot(int lane, int player, int index) {
+        return (lane * 2 + player) * HAND_SIZE + index;
+    }
+
+    /**
+     * Plays every lane until its game is over or reaches the turn limit.
+     */
+    public void run() {
+        while (step() > 0) {
+            // Keep stepping until every lane has finished
+        }
+    }
+
+    /**
+     * Plays one turn in every unfinished lane.
+     * @return The number of lanes still playing afterwards
+     */
+    public int step() {
+        for (int lane = 0; lane < lanes; lane++) {
+            attackers[lane] = NO_ATTACK;
+            if (!isPlaying(lane)) {
+                continue;
+            }
+
+            boolean greedy = current[lane] == 0 ? player1Greedy : player2Greedy;
+            if (greedy) {
+                greedyTurn(lane);
+            } else {
+                randomTurn(lane);
+            }
+        }
+
+        int hits = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            if (attackers[lane] != NO_ATTACK) {
+                queueHit(hits++, targets[lane], attack[attackers[lane]]);
+            }
+        }
+        resolveHits(hits);
+
+        for (int lane = 0; lane < lanes; lane++) {
+            int attacker = attackers[lane];
+            int target = targets[lane];
+            if (attacker != NO_ATTACK && definition(attacker).getAbility() == Ability.MUTE && life[target] > 0) {
+                flags[target] |= gameRandom[lane].nextBoolean() ? ATTACK_MUTED : DEFENCE_MUTED;
+            }
+        }
+
+        // Every round draws the damage of each lane from its own stream, in the engine's order
+        for (int round = 0; round < FOLLOW_UP_HITS; round++) {
+            hits = 0;
+            for (int lane = 0; lane < lanes; lane++) {
+                int attacker = attackers[lane];
+                int target = targets[lane];
+                if (attacker != NO_ATTACK && definition(attacker).getAbility() == Ability.FOLLOW_UP_HITS && life[target] > 0) {
+                    queueHit(hits++, target, gameRandom[lane].nextInt(attack[attacker]) + 1);
+                }
+            }
+            resolveHits(hits);
+        }
+
+        for (int lane = 0; lane < lanes; lane++) {
+            if (!isPlaying(lane)) {
+                continue;
+            }
+
+            if (hasLost(lane, current[lane] ^ 1)) {
+                gameOver[lane] = true;
+            }
+            turns[lane]++;
+
+            if (!gameOver[lane]) {
+                current[lane] ^= 1;
+            }
+            if (gameOver[lane] || turns[lane] >= maxTurns) {
+                active--;
+            }
+        }
+        return active;
+    }
+
+    private boolean isPlaying(int lane) {
+        return !gameOver[lane] && turns[lane] < maxTurns;
+    }
+
+    /**
+     * Same choices and random draws as {@link RandomPolicy}.
+     */
+    private void randomTurn(int lane) {
+        SplittableRandom random = policyRandom[lane];
+        int attacker = pickLiveCard(lane, current[lane], random);
+        int target = pickLiveCard(lane, current[lane] ^ 1, random);
+
+        if (attacker >= 0 && target >= 0) {
+            chooseAttack(lane, slot(lane, current[lane], attacker), slot(lane, current[lane] ^ 1, target));
+        }
+    }
+
+    private int pickLiveCard(int lane, int player, SplittableRandom random) {
+        int first = slot(lane, player, 0);
+        int live = 0;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[first + i] > 0) {
+                live++;
+            }
+        }
+
+        if (live == 0) {
+            return -1;
+        }
+
+        int pick = random.nextInt(live);
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[first + i] > 0 && pick-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same choices as {@link GreedyPolicy}: swap out attack-muted cards if the deck allows it,
+     * then attack the weakest target with the strongest card.
+     */
+    private void greedyTurn(int lane) {
+        int own = slot(lane, current[lane], 0);
+        int opponent = slot(lane, current[lane] ^ 1, 0);
+
+        int muted = 0;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[own + i] > 0 && (flags[own + i] & ATTACK_MUTED) != 0) {
+                muted++;
+            }
+        }
+        if (muted > 0 && deckSize[lane] >= muted) {
+            // The engine replaces the highest index first, each with the top card
+            for (int i = HAND_SIZE - 1; i >= 0; i--) {
+                if (life[own + i] > 0 && (flags[own + i] & ATTACK_MUTED) != 0) {
+                    place(own + i, draw(lane));
+                }
+            }
+        }
+
+        int attacker = -1;
+        int bestAttack = Integer.MIN_VALUE;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[own + i] <= 0) {
+                continue;
+            }
+            int score = (flags[own + i] & ATTACK_MUTED) != 0 ? -1 : attack[own + i];
+            if (score > bestAttack) {
+                attacker = i;
+                bestAttack = score;
+            }
+        }
+
+        int target = -1;
+        int bestTarget = Integer.MAX_VALUE;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[opponent + i] <= 0) {
+                continue;
+            }
+            int score = (flags[opponent + i] & DEFENCE_MUTED) != 0 ? Integer.MAX_VALUE - 1
+                    : defence[opponent + i] + life[opponent + i];
+            if (score < bestTarget) {
+                target = i;
+                bestTarget = score;
+            }
+        }
+
+        if (attacker >= 0 && target >= 0) {
+            chooseAttack(lane, own + attacker, opponent + target);
+        }
+    }
+
+    /**
+     * Records the lane's attack for this step. An attack-muted card attacks without effect.
+     */
+    private void chooseAttack(int lane, int attacker, int target) {
+        if ((flags[attacker] & ATTACK_MUTED) == 0) {
+            attackers[lane] = attacker;
+            targets[lane] = target;
+        }
+    }
+
+    private void queueHit(int hit, int target, int damage) {
+        hitSlots[hit] = target;
+        hitDefence[hit] = defence[target];
+        hitLife[hit] = life[target];
+        hitFlags[hit] = flags[target];
+        hitDamage[hit] = damage;
+    }
+
+    private void resolveHits(int count) {
+        kernel.apply(hitDefence, hitLife, hitFlags, hitDamage, count);
+        for (int hit = 0; hit < count; hit++) {
+            int target = hitSlots[hit];
+            defence[target] = (short) hitDefence[hit];
+            life[target] = (short) hitLife[hit];
+        }
+    }
+
+    private boolean hasLost(int lane, int player) {
+        int first = slot(lane, player, 0);
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (life[first + i] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the results of every lane to the statistics, the same way {@link SimulationStats#record} does for a game.
+     * @param stats The statistics to add to
+     */
+    public void recordInto(SimulationStats stats) {
+        for (int lane = 0; lane < lanes; lane++) {
+            int winner = getWinner(lane);
+            stats.recordResult(turns[lane], winner);
+            if (winner == NO_WINNER) {
+                continue;
+            }
+
+            for (int i = 0; i < HAND_SIZE; i++) {
+                stats.recordHandCard(definition(slot(lane, winner, i)).getType(), true);
+            }
+            for (int i = 0; i < HAND_SIZE; i++) {
+                stats.recordHandCard(definition(slot(lane, winner ^ 1, i)).getType(), false);
+            }
+        }
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+
+    public int getTurns(int lane) {
+        return turns[lane];
+    }
+
+    /**
+     * Gets the winner of a lane's game. The player who made the winning attack is still the current player.
+     * @return 0 for player 1, 1 for player 2, or -1 if the game is not over
+     */
+    public int getWinner(int lane) {
+        return gameOver[lane] ? current[lane] : NO_WINNER;
+    }
+
+    public String getType(int lane, int player, int index) {
+        return definition(slot(lane, player, index)).getType();
+    }
+
+    public int getLife(int lane, int player, int index) {
+        return life[slot(lane, player, index)];
+    }
+
+    public int getDefence(int lane, int player, int index) {
+        return defence[slot(lane, player, index)];
+    }
+
+    public boolean isAttackMuted(int lane, int player, int index) {
+        return (flags[slot(lane, player, index)] & ATTACK_MUTED) != 0;
+    }
+
+    public boolean isDefenceMuted(int lane, int player, int index) {
+        return (flags[slot(lane, player, index)] & DEFENCE_MUTED) != 0;
+    }
+
+    public int getRemainingCards(int lane) {
+        return deckSize[lane];
+    }
+}
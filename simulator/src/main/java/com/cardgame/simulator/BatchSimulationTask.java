@@ -0,0 +1,47 @@
+package com.cardgame.simulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task that plays a range of games on {@link BatchEngine}s instead of game objects.
+ * Ranges are split and seeded exactly like {@link SimulationTask}, so both tasks produce
+ * the same statistics for the same root seed.
+ */
+class BatchSimulationTask extends RecursiveTask<SimulationStats> {
+    private static final int GAMES_PER_LEAF = 1024;
+
+    private final long games;
+    private final String player1Policy;
+    private final String player2Policy;
+    private final int maxTurns;
+    private final SplittableRandom random;
+
+    BatchSimulationTask(long games, String player1Policy, String player2Policy, int maxTurns,
+                        SplittableRandom random) {
+        this.games = games;
+        this.player1Policy = player1Policy;
+        this.player2Policy = player2Policy;
+        this.maxTurns = maxTurns;
+        this.random = random;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (games > GAMES_PER_LEAF) {
+            long half = games / 2;
+            BatchSimulationTask left = new BatchSimulationTask(half, player1Policy, player2Policy, maxTurns, random.split());
+            BatchSimulationTask right = new BatchSimulationTask(games - half, player1Policy, player2Policy, maxTurns, random);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        BatchEngine engine = new BatchEngine((int) games, player1Policy, player2Policy, maxTurns);
+        engine.reset(random);
+        engine.run();
+
+        SimulationStats stats = new SimulationStats();
+        engine.recordInto(stats);
+        return stats;
+    }
+}
@@ -0,0 +1,133 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.CardCatalog;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.Player;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Plays the same seeded games on game objects and on a {@link BatchEngine} and checks that
+ * every game ends identically: turn count, winner, deck size and the type, life, defence and
+ * mute flags of every hand card.
+ * <p>
+ * Usage: {@code BatchValidator [--games N] [--seed N] [--max-turns N] [--catalog FILE]}. Every
+ * pairing of the built-in policies is checked, on the standard card catalog or the given one.
+ * Exits with status 1 if any game differs.
+ */
+public class BatchValidator {
+    private static final String[] POLICIES = {"random", "greedy"};
+
+    public static void main(String[] args) throws IOException {
+        int games = 10_000;
+        long seed = 42;
+        int maxTurns = 200;
+        CardCatalog catalog = CardCatalog.standard();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--max-turns" -> maxTurns = Integer.parseInt(value);
+                case "--catalog" -> catalog = readCatalog(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println("Damage kernel: " + (DamageKernel.isVectorAvailable() ? "vector" : "scalar"));
+        long mismatches = 0;
+        for (String player1Policy : POLICIES) {
+            for (String player2Policy : POLICIES) {
+                long found = validate(games, seed, maxTurns, player1Policy, player2Policy, catalog);
+                System.out.printf("%s vs %s: %,d games, %,d mismatches%n", player1Policy, player2Policy, games, found);
+                mismatches += found;
+            }
+        }
+
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static CardCatalog readCatalog(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return CardCatalog.read(reader);
+        }
+    }
+
+    private static long validate(int games, long seed, int maxTurns, String player1Policy, String player2Policy,
+                                 CardCatalog catalog) {
+        BatchEngine batch = new BatchEngine(games, player1Policy, player2Policy, maxTurns, DamageKernel.best(), catalog);
+        batch.reset(new SplittableRandom(seed));
+        batch.run();
+
+        MovePolicy policy1 = MovePolicy.named(player1Policy);
+        MovePolicy policy2 = MovePolicy.named(player2Policy);
+        SplittableRandom root = new SplittableRandom(seed);
+        long mismatches = 0;
+
+        for (int lane = 0; lane < games; lane++) {
+            Game game = new Game("Player 1", "Player 2", catalog, root.split());
+            SplittableRandom policyRandom = root.split();
+
+            // Same turn loop as SimulationTask
+            int turns = 0;
+            while (!game.isGameOver() && turns < maxTurns) {
+                MovePolicy policy = game.getCurrentPlayer() == game.getPlayer1() ? policy1 : policy2;
+                policy.playTurn(game, policyRandom);
+                turns++;
+                if (!game.isGameOver()) {
+                    game.endTurn();
+                }
+            }
+
+            String difference = compare(game, turns, batch, lane);
+            if (difference != null) {
+                if (mismatches < 5) {
+                    System.out.println("  game " + lane + ": " + difference);
+                }
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Describes the first difference between a finished game and a batch lane.
+     * @return The difference, or null if they match
+     */
+    private static String compare(Game game, int turns, BatchEngine batch, int lane) {
+        if (turns != batch.getTurns(lane)) {
+            return "turns " + turns + " vs " + batch.getTurns(lane);
+        }
+
+        int winner = game.isGameOver() ? game.getCurrentPlayerIndex() : -1;
+        if (winner != batch.getWinner(lane)) {
+            return "winner " + winner + " vs " + batch.getWinner(lane);
+        }
+
+        if (game.getDeck().getRemainingCards() != batch.getRemainingCards(lane)) {
+            return "deck " + game.getDeck().getRemainingCards() + " vs " + batch.getRemainingCards(lane);
+        }
+
+        Player[] players = {game.getPlayer1(), game.getPlayer2()};
+        for (int player = 0; player < 2; player++) {
+            for (int i = 0; i < BatchEngine.HAND_SIZE; i++) {
+                Card card = players[player].getCards().get(i);
+                if (!card.getType().equals(batch.getType(lane, player, i))
+                        || card.getCurrentLife() != batch.getLife(lane, player, i)
+                        || card.getCurrentDefence() != batch.getDefence(lane, player, i)
+                        || card.isAttackMuted() != batch.isAttackMuted(lane, player, i)
+                        || card.isDefenceMuted() != batch.isDefenceMuted(lane, player, i)) {
+                    return "player " + (player + 1) + " card " + i + ": " + card;
+                }
+            }
+        }
+        return null;
+    }
+}
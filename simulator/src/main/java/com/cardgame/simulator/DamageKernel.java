@@ -0,0 +1,60 @@
+package com.cardgame.simulator;
+
+/**
+ * Applies a batch of hits with the damage rule of {@code Card.performAttack}: defence absorbs
+ * as much damage as it has left, and the rest goes to life unless the target's defence is muted.
+ * Life never drops below zero.
+ * <p>
+ * Hit {@code i} of a batch is described by position {@code i} of every array, so the rule can
+ * run over many games at once. The {@code flags} hold {@link BatchEngine}'s mute bits. A damage
+ * of zero leaves the target unchanged, which lets callers keep unused positions in a batch.
+ */
+public interface DamageKernel {
+
+    /**
+     * Applies the hits in positions {@code 0} to {@code count - 1}.
+     * @param defence Defence of each target, updated in place
+     * @param life Life of each target, updated in place
+     * @param flags Mute flags of each target
+     * @param damage Damage of each hit, at least zero
+     * @param count Number of hits
+     */
+    void apply(int[] defence, int[] life, int[] flags, int[] damage, int count);
+
+    /**
+     * Gets the kernel that resolves one hit at a time.
+     * @return The scalar kernel
+     */
+    static DamageKernel scalar() {
+        return new ScalarDamageKernel();
+    }
+
+    /**
+     * Gets the kernel built on the Vector API, which resolves a full vector of hits per step.
+     * @return The vector kernel
+     * @throws IllegalStateException If the {@code jdk.incubator.vector} module is not loaded
+     */
+    static DamageKernel vector() {
+        if (!isVectorAvailable()) {
+            throw new IllegalStateException("Start the JVM with --add-modules jdk.incubator.vector to use the vector kernel");
+        }
+        return new VectorDamageKernel();
+    }
+
+    /**
+     * Gets the vector kernel if the Vector API is loaded, otherwise the scalar kernel.
+     * @return The kernel
+     */
+    static DamageKernel best() {
+        return isVectorAvailable() ? vector() : scalar();
+    }
+
+    /**
+     * Checks whether the incubating Vector API was added to the JVM. It is an optional
+     * dependency, so the vector kernel class must not be touched without it.
+     * @return True if the vector kernel can be used
+     */
+    static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
@@ -0,0 +1,86 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Swaps out attack-muted cards while the deck allows it, then attacks the
+ * opponent card that is closest to defeat with the strongest available card.
+ */
+public class GreedyPolicy implements MovePolicy {
+
+    @Override
+    public void playTurn(Game game, RandomGenerator random) {
+        Player player = game.getCurrentPlayer();
+
+        // Replace cards that can no longer attack
+        List<Integer> muted = new ArrayList<>();
+        for (int i = 0; i < player.getCards().size(); i++) {
+            Card card = player.getCards().get(i);
+            if (!card.isDefeated() && card.isAttackMuted()) {
+                muted.add(i);
+            }
+        }
+        if (!muted.isEmpty() && game.getDeck().getRemainingCards() >= muted.size()) {
+            game.switchCards(muted);
+        }
+
+        int attacker = strongestAttacker(player);
+        int target = weakestTarget(game.getOpponent());
+
+        if (attacker >= 0 && target >= 0) {
+            game.performAttack(attacker, target);
+        }
+    }
+
+    /**
+     * Finds the live card with the highest attack, preferring cards that are not muted.
+     */
+    private static int strongestAttacker(Player player) {
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+
+        for (int i = 0; i < player.getCards().size(); i++) {
+            Card card = player.getCards().get(i);
+            if (card.isDefeated()) {
+                continue;
+            }
+
+            int score = card.isAttackMuted() ? -1 : card.getAttack();
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the live card that needs the least damage to be defeated.
+     */
+    private static int weakestTarget(Player opponent) {
+        int best = -1;
+        int bestScore = Integer.MAX_VALUE;
+
+        for (int i = 0; i < opponent.getCards().size(); i++) {
+            Card card = opponent.getCards().get(i);
+            if (card.isDefeated()) {
+                continue;
+            }
+
+            // Defence-muted cards never lose life, so they are the worst targets
+            int score = card.isDefenceMuted() ? Integer.MAX_VALUE - 1
+                    : card.getCurrentDefence() + card.getCurrentLife();
+            if (score < bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Game;
+import com.cardgame.engine.GameListener;
+import com.cardgame.engine.journal.JournalReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Replays every game of a journal written with {@code Simulator --journal} and reports the
+ * same results as the simulation that recorded it.
+ * <p>
+ * Usage: {@code JournalReplay FILE}. A journal that does not match the engine stops the
+ * replay with the file offset of the offending record.
+ */
+public class JournalReplay {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: JournalReplay FILE");
+        }
+
+        TurnCounter turns = new TurnCounter();
+        SimulationStats stats = new SimulationStats();
+        long start = System.nanoTime();
+
+        try (JournalReader reader = JournalReader.open(Path.of(args[0]))) {
+            while (reader.nextGame()) {
+                turns.count = 0;
+                Game game = reader.replayGame("Player 1", "Player 2", turns);
+                // The simulator ends every turn except the one that wins the game
+                stats.record(game, turns.count + (game.isGameOver() ? 1 : 0));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Replayed %,d games in %.2f s (%,.0f games/s)%n",
+                stats.getGames(), seconds, stats.getGames() / seconds);
+        System.out.printf("Average game length: %.2f turns%n", stats.getAverageTurns());
+        System.out.printf("Player 1 wins: %,d, Player 2 wins: %,d, Draws: %,d%n",
+                stats.getPlayer1Wins(), stats.getPlayer2Wins(), stats.getDraws());
+    }
+
+    private static final class TurnCounter implements GameListener {
+        int count;
+
+        @Override
+        public void turnEnded() {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides the actions of the current player during a simulated turn.
+ * Implementations must be safe to share between simulation threads.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Plays the current player's actions for one turn.
+     * The simulator ends the turn afterwards.
+     * @param game The game being simulated
+     * @param random Random source for the policy's own choices, separate from the game's
+     */
+    void playTurn(Game game, RandomGenerator random);
+
+    /**
+     * Looks up a built-in policy by name.
+     * @param name Policy name, either "random" or "greedy"
+     * @return The matching policy
+     */
+    static MovePolicy named(String name) {
+        return switch (name) {
+            case "random" -> new RandomPolicy();
+            case "greedy" -> new GreedyPolicy();
+            default -> throw new IllegalArgumentException("Unknown policy: " + name);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.Player;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Attacks a random live opponent card with a random live card.
+ */
+public class RandomPolicy implements MovePolicy {
+
+    @Override
+    public void playTurn(Game game, RandomGenerator random) {
+        int attacker = pickLiveCard(game.getCurrentPlayer(), random);
+        int target = pickLiveCard(game.getOpponent(), random);
+
+        if (attacker >= 0 && target >= 0) {
+            game.performAttack(attacker, target);
+        }
+    }
+
+    /**
+     * Picks a uniformly random card that is not defeated.
+     * @return The card index, or -1 if every card is defeated
+     */
+    private static int pickLiveCard(Player player, RandomGenerator random) {
+        List<Card> cards = player.getCards();
+        int live = 0;
+        for (Card card : cards) {
+            if (!card.isDefeated()) {
+                live++;
+            }
+        }
+
+        if (live == 0) {
+            return -1;
+        }
+
+        int pick = random.nextInt(live);
+        for (int i = 0; i < cards.size(); i++) {
+            if (!cards.get(i).isDefeated() && pick-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
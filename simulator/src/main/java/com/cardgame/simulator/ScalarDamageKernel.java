@@ -0,0 +1,30 @@
+package com.cardgame.simulator;
+
+/**
+ * Resolves hits one at a time, with the same branches as {@code Card.performAttack}.
+ */
+final class ScalarDamageKernel implements DamageKernel {
+
+    @Override
+    public void apply(int[] defence, int[] life, int[] flags, int[] damage, int count) {
+        resolve(defence, life, flags, damage, 0, count);
+    }
+
+    /**
+     * Applies the hits in positions {@code from} to {@code to - 1}. The vector kernel uses this for its tail.
+     */
+    static void resolve(int[] defence, int[] life, int[] flags, int[] damage, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int rest = damage[i];
+            if (defence[i] > 0) {
+                int defenceDamage = Math.min(defence[i], rest);
+                defence[i] -= defenceDamage;
+                rest -= defenceDamage;
+            }
+
+            if (rest > 0 && (flags[i] & BatchEngine.DEFENCE_MUTED) == 0) {
+                life[i] = Math.max(0, life[i] - rest);
+            }
+        }
+    }
+}
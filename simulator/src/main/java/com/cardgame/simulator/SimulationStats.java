@@ -0,0 +1,136 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Card;
+import com.cardgame.engine.Game;
+import com.cardgame.engine.Player;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mutable, mergeable totals for a batch of simulated games.
+ * Each simulation thread fills its own instance; instances are merged when tasks join.
+ */
+public class SimulationStats {
+    private long games;
+    private long player1Wins;
+    private long player2Wins;
+    private long draws;
+    private long totalTurns;
+    // Per card type: [0] = cards in a winning hand, [1] = cards in a losing hand
+    private final Map<String, long[]> typeResults = new TreeMap<>();
+
+    /**
+     * Records the outcome of a finished or abandoned game.
+     * @param game The game
+     * @param turns Number of turns played
+     */
+    public void record(Game game, int turns) {
+        if (!game.isGameOver()) {
+            recordResult(turns, -1);
+            return;
+        }
+
+        // The player who made the winning attack is still the current player
+        Player winner = game.getCurrentPlayer();
+        Player loser = game.getOpponent();
+        recordResult(turns, winner == game.getPlayer1() ? 0 : 1);
+
+        for (Card card : winner.getCards()) {
+            recordHandCard(card.getType(), true);
+        }
+        for (Card card : loser.getCards()) {
+            recordHandCard(card.getType(), false);
+        }
+    }
+
+    /**
+     * Records the outcome of a game without its final hands.
+     * @param turns Number of turns played
+     * @param winner 0 if player 1 won, 1 if player 2 won, -1 for a draw
+     */
+    void recordResult(int turns, int winner) {
+        games++;
+        totalTurns += turns;
+
+        if (winner == 0) {
+            player1Wins++;
+        } else if (winner == 1) {
+            player2Wins++;
+        } else {
+            draws++;
+        }
+    }
+
+    /**
+     * Records one card of a decided game's final hands.
+     * @param type The card type
+     * @param won true if the card was in the winner's hand
+     */
+    void recordHandCard(String type, boolean won) {
+        typeResults.computeIfAbsent(type, t -> new long[2])[won ? 0 : 1]++;
+    }
+
+    /**
+     * Adds the totals of another batch to this one.
+     * @param other The batch to merge
+     * @return This instance
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        player1Wins += other.player1Wins;
+        player2Wins += other.player2Wins;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+
+        other.typeResults.forEach((type, results) -> {
+            long[] totals = typeResults.computeIfAbsent(type, t -> new long[2]);
+            totals[0] += results[0];
+            totals[1] += results[1];
+        });
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getPlayer1Wins() {
+        return player1Wins;
+    }
+
+    public long getPlayer2Wins() {
+        return player2Wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Share of decided games won by the player who moved first.
+     * @return Win rate between 0 and 1, where 0.5 means no advantage
+     */
+    public double getFirstPlayerWinRate() {
+        long decided = player1Wins + player2Wins;
+        return decided == 0 ? 0 : (double) player1Wins / decided;
+    }
+
+    /**
+     * Win rate per card type, counted over the final hands of decided games.
+     * A card in the winner's hand counts as a win for its type, a card in the loser's hand as a loss.
+     * @return Map from card type to win rate between 0 and 1
+     */
+    public Map<String, Double> getTypeWinRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        typeResults.forEach((type, results) -> {
+            long total = results[0] + results[1];
+            rates.put(type, total == 0 ? 0 : (double) results[0] / total);
+        });
+        return rates;
+    }
+}
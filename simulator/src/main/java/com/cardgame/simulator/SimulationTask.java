@@ -0,0 +1,102 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.Game;
+import com.cardgame.engine.journal.GameRecorder;
+import com.cardgame.engine.journal.JournalWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task that plays a range of games, splitting large ranges
+ * so idle workers can steal the other half.
+ * <p>
+ * Every split also splits the random source, so the games played depend only
+ * on the root seed and not on how the work was scheduled across threads.
+ * If a journal is given, every game is recorded to it; the games are the same,
+ * but the order in which leaves append them depends on the scheduling.
+ */
+class SimulationTask extends RecursiveTask<SimulationStats> {
+    private static final int GAMES_PER_LEAF = 1024;
+
+    private final long games;
+    private final MovePolicy player1Policy;
+    private final MovePolicy player2Policy;
+    private final int maxTurns;
+    private final SplittableRandom random;
+    private final JournalWriter journal;
+
+    SimulationTask(long games, MovePolicy player1Policy, MovePolicy player2Policy, int maxTurns,
+                   SplittableRandom random) {
+        this(games, player1Policy, player2Policy, maxTurns, random, null);
+    }
+
+    /**
+     * @param journal Journal to record every game to, or null to record nothing
+     */
+    SimulationTask(long games, MovePolicy player1Policy, MovePolicy player2Policy, int maxTurns,
+                   SplittableRandom random, JournalWriter journal) {
+        this.games = games;
+        this.player1Policy = player1Policy;
+        this.player2Policy = player2Policy;
+        this.maxTurns = maxTurns;
+        this.random = random;
+        this.journal = journal;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (games > GAMES_PER_LEAF) {
+            long half = games / 2;
+            SimulationTask left = new SimulationTask(half, player1Policy, player2Policy, maxTurns, random.split(), journal);
+            SimulationTask right = new SimulationTask(games - half, player1Policy, player2Policy, maxTurns, random, journal);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        SimulationStats stats = new SimulationStats();
+        GameRecorder recorder = journal == null ? null : new GameRecorder();
+        for (long i = 0; i < games; i++) {
+            Game game = new Game("Player 1", "Player 2", random.split());
+            if (recorder != null) {
+                recorder.start(game);
+                game.setListener(recorder);
+            }
+            stats.record(game, playGame(game, random.split()));
+            if (recorder != null) {
+                append(recorder);
+            }
+        }
+        return stats;
+    }
+
+    private void append(GameRecorder recorder) {
+        try {
+            journal.append(recorder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the journal", e);
+        }
+    }
+
+    /**
+     * Plays a game until it is over or the turn limit is reached.
+     * @param policyRandom Random source for the policies' choices in this game
+     * @return Number of turns played
+     */
+    private int playGame(Game game, SplittableRandom policyRandom) {
+        int turns = 0;
+
+        while (!game.isGameOver() && turns < maxTurns) {
+            MovePolicy policy = game.getCurrentPlayer() == game.getPlayer1() ? player1Policy : player2Policy;
+            policy.playTurn(game, policyRandom);
+            turns++;
+
+            if (!game.isGameOver()) {
+                game.endTurn();
+            }
+        }
+        return turns;
+    }
+}
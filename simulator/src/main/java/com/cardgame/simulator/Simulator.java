@@ -0,0 +1,109 @@
+package com.cardgame.simulator;
+
+import com.cardgame.engine.journal.JournalWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many full games in parallel and reports balance statistics.
+ * <p>
+ * Usage: {@code Simulator [--games N] [--threads N] [--p1 random|greedy] [--p2 random|greedy] [--max-turns N] [--seed N]
+ * [--engine object|batch] [--journal FILE]}
+ * <p>
+ * Runs with the same seed and game count produce identical statistics regardless of the thread count,
+ * and regardless of whether the games are played on engine objects or on the column-based {@link BatchEngine}.
+ * With {@code --journal} every game of the object engine is appended to a game journal, which
+ * {@link JournalReplay} can replay.
+ */
+public class Simulator {
+    private long games = 1_000_000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private String player1Policy = "greedy";
+    private String player2Policy = "greedy";
+    private int maxTurns = 200;
+    private long seed = System.nanoTime();
+    private String engine = "object";
+    private Path journalPath;
+
+    public static void main(String[] args) throws IOException {
+        Simulator simulator = new Simulator();
+        simulator.parseArgs(args);
+        simulator.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--p1" -> player1Policy = value;
+                case "--p2" -> player2Policy = value;
+                case "--max-turns" -> maxTurns = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--engine" -> engine = value;
+                case "--journal" -> journalPath = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs the configured simulation and prints the report.
+     * @return The collected statistics
+     * @throws IOException If the journal cannot be written
+     */
+    public SimulationStats run() throws IOException {
+        if (journalPath != null && !engine.equals("object")) {
+            throw new IllegalArgumentException("Only the object engine can write a journal");
+        }
+        JournalWriter journal = journalPath == null ? null : JournalWriter.open(journalPath);
+
+        RecursiveTask<SimulationStats> task = switch (engine) {
+            case "object" -> new SimulationTask(games, MovePolicy.named(player1Policy),
+                    MovePolicy.named(player2Policy), maxTurns, new SplittableRandom(seed), journal);
+            case "batch" -> new BatchSimulationTask(games, player1Policy, player2Policy, maxTurns,
+                    new SplittableRandom(seed));
+            default -> throw new IllegalArgumentException("Unknown engine: " + engine);
+        };
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        SimulationStats stats;
+        try {
+            stats = pool.invoke(task);
+        } finally {
+            pool.shutdown();
+            if (journal != null) {
+                journal.close();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        printReport(stats, seconds);
+        return stats;
+    }
+
+    private void printReport(SimulationStats stats, double seconds) {
+        double gamesPerSecond = stats.getGames() / seconds;
+
+        System.out.printf("Simulated %,d games (%s vs %s, seed %d, %s engine) on %d threads in %.2f s%n",
+                stats.getGames(), player1Policy, player2Policy, seed, engine, threads, seconds);
+        System.out.printf("Throughput: %,.0f games/s, %,.0f games/s per core%n",
+                gamesPerSecond, gamesPerSecond / threads);
+        System.out.printf("Average game length: %.2f turns%n", stats.getAverageTurns());
+        System.out.printf("Player 1 wins: %,d, Player 2 wins: %,d, Draws (turn limit %d): %,d%n",
+                stats.getPlayer1Wins(), stats.getPlayer2Wins(), maxTurns, stats.getDraws());
+        System.out.printf("First-player win rate: %.2f%%%n", stats.getFirstPlayerWinRate() * 100);
+
+        System.out.println("Win rate by card type:");
+        for (Map.Entry<String, Double> entry : stats.getTypeWinRates().entrySet()) {
+            System.out.printf("  %-10s %.2f%%%n", entry.getKey(), entry.getValue() * 100);
+        }
+    }
+}
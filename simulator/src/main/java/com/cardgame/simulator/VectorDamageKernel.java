@@ -0,0 +1,40 @@
+package com.cardgame.simulator;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Resolves hits a full vector at a time with the incubating Vector API.
+ * <p>
+ * The branches of the scalar rule become lane-wise operations: defence absorbs
+ * {@code min(defence, damage)}, which is zero when defence is already gone, and the
+ * rest is blended to zero where the defence-muted flag is set before it is taken
+ * from life and clamped at zero. Hits left over after the last full vector go
+ * through the scalar kernel.
+ */
+final class VectorDamageKernel implements DamageKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void apply(int[] defence, int[] life, int[] flags, int[] damage, int count) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector defenceLanes = IntVector.fromArray(SPECIES, defence, i);
+            IntVector damageLanes = IntVector.fromArray(SPECIES, damage, i);
+
+            IntVector absorbed = defenceLanes.min(damageLanes);
+            IntVector rest = damageLanes.sub(absorbed);
+            VectorMask<Integer> muted = IntVector.fromArray(SPECIES, flags, i)
+                    .and(BatchEngine.DEFENCE_MUTED)
+                    .compare(VectorOperators.NE, 0);
+            rest = rest.blend(0, muted);
+
+            defenceLanes.sub(absorbed).intoArray(defence, i);
+            IntVector.fromArray(SPECIES, life, i).sub(rest).max(0).intoArray(life, i);
+        }
+        ScalarDamageKernel.resolve(defence, life, flags, damage, i, count);
+    }
+}
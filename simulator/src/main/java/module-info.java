@@ -0,0 +1,10 @@
+/**
+ * Monte-Carlo self-play simulator built on the headless rules engine.
+ */
+module com.cardgame.simulator {
+    requires com.cardgame.engine;
+    // Optional: the batch engine uses the vector damage kernel when started with --add-modules jdk.incubator.vector
+    requires static jdk.incubator.vector;
+
+    exports com.cardgame.simulator;
+}